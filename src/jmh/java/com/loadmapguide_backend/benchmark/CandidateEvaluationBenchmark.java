@@ -0,0 +1,111 @@
+package com.loadmapguide_backend.benchmark;
+
+import com.loadmapguide_backend.domain.location.service.CommercialAreaIndex;
+import com.loadmapguide_backend.domain.location.service.StraightLineTravelTimeMatrixProvider;
+import com.loadmapguide_backend.domain.location.service.SubwayGraphTravelTimeMatrixProvider;
+import com.loadmapguide_backend.domain.location.service.SubwayNetwork;
+import com.loadmapguide_backend.domain.location.service.TravelTimeLowerBound;
+import com.loadmapguide_backend.domain.location.service.TravelTimeMatrix;
+import com.loadmapguide_backend.global.common.enums.TransportationType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 후보지점 격자 평가 벤치마크
+ * 적응형 탐색 한 단계보다 큰 고정 격자(25~1,000곳)를 두고 후보지점 평가의 단계별 비용을 측정한다.
+ * 이동시간 행렬(직선거리/지하철 노선망), 가지치기용 이동시간 하한, 상권 점수 조회를 각각 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CandidateEvaluationBenchmark {
+
+    private static final double GRID_STEP_DEGREES = 0.005; // 약 500m
+
+    @Param({"2", "10", "50"})
+    private int participantCount;
+
+    @Param({"25", "100", "400", "1000"})
+    private int gridSize;
+
+    private double[] participantLats;
+    private double[] participantLngs;
+    private double[] candidateLats;
+    private double[] candidateLngs;
+    private double[] totals;
+
+    private StraightLineTravelTimeMatrixProvider straightLineProvider;
+    private SubwayGraphTravelTimeMatrixProvider subwayGraphProvider;
+    private TravelTimeLowerBound travelTimeLowerBound;
+    private CommercialAreaIndex commercialAreaIndex;
+
+    @Setup
+    public void setUp() {
+        DefaultResourceLoader resourceLoader = new DefaultResourceLoader();
+        straightLineProvider = new StraightLineTravelTimeMatrixProvider();
+        travelTimeLowerBound = new TravelTimeLowerBound();
+
+        SubwayNetwork subwayNetwork = new SubwayNetwork(resourceLoader, "classpath:data/subway-network.csv");
+        subwayNetwork.load();
+        subwayGraphProvider = new SubwayGraphTravelTimeMatrixProvider(subwayNetwork, straightLineProvider);
+
+        commercialAreaIndex = new CommercialAreaIndex(resourceLoader, "classpath:data/commercial-hotspots.csv");
+        commercialAreaIndex.load();
+
+        // 서울 시내 범위의 임의 참여자 좌표
+        Random random = new Random(42);
+        participantLats = new double[participantCount];
+        participantLngs = new double[participantCount];
+        for (int i = 0; i < participantCount; i++) {
+            participantLats[i] = 37.45 + random.nextDouble() * 0.2;
+            participantLngs[i] = 126.85 + random.nextDouble() * 0.3;
+        }
+
+        // 도심을 중심으로 한 정사각 격자 (앞에서부터 gridSize개)
+        int side = (int) Math.ceil(Math.sqrt(gridSize));
+        candidateLats = new double[gridSize];
+        candidateLngs = new double[gridSize];
+        for (int i = 0; i < gridSize; i++) {
+            candidateLats[i] = 37.55 + (i / side - side / 2) * GRID_STEP_DEGREES;
+            candidateLngs[i] = 126.98 + (i % side - side / 2) * GRID_STEP_DEGREES;
+        }
+        totals = new double[gridSize];
+    }
+
+    @Benchmark
+    public TravelTimeMatrix straightLineMatrix() {
+        return straightLineProvider.compute(participantLats, participantLngs, participantCount,
+                candidateLats, candidateLngs, gridSize, TransportationType.PUBLIC_TRANSPORT);
+    }
+
+    @Benchmark
+    public TravelTimeMatrix subwayGraphMatrix() {
+        return subwayGraphProvider.compute(participantLats, participantLngs, participantCount,
+                candidateLats, candidateLngs, gridSize, TransportationType.SUBWAY);
+    }
+
+    @Benchmark
+    public double[] travelTimeLowerBound() {
+        travelTimeLowerBound.totalMinutes(participantLats, participantLngs, participantCount,
+                candidateLats, candidateLngs, gridSize, TransportationType.PUBLIC_TRANSPORT, totals);
+        return totals;
+    }
+
+    @Benchmark
+    public void commercialScore(Blackhole blackhole) {
+        for (int c = 0; c < gridSize; c++) {
+            blackhole.consume(commercialAreaIndex.maxWeightedScore(candidateLats[c], candidateLngs[c]));
+        }
+    }
+}
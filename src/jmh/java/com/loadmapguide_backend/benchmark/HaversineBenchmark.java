@@ -0,0 +1,135 @@
+package com.loadmapguide_backend.benchmark;
+
+import com.loadmapguide_backend.domain.location.entity.LocationPoint;
+import com.loadmapguide_backend.global.common.util.GeoUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 후보지점 × 참여자 거리 계산 벤치마크
+ * 기존 객체 단위 Haversine 구현과 GeoUtils 단건/일괄/등장방형 경로를 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class HaversineBenchmark {
+
+    @Param({"2", "10", "50"})
+    private int participantCount;
+
+    @Param({"25", "80", "1000"}) // 80: 적응형 격자 탐색 최대 평가 수
+    private int candidateCount;
+
+    private List<LocationPoint> participantPoints;
+    private List<LocationPoint> candidatePoints;
+
+    private double[] participantLats;
+    private double[] participantLngs;
+    private double[] participantLatsRad;
+    private double[] participantCosLats;
+    private double[] candidateLats;
+    private double[] candidateLngs;
+    private double[] distances;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        participantPoints = new ArrayList<>(participantCount);
+        candidatePoints = new ArrayList<>(candidateCount);
+        participantLats = new double[participantCount];
+        participantLngs = new double[participantCount];
+        participantLatsRad = new double[participantCount];
+        participantCosLats = new double[participantCount];
+        candidateLats = new double[candidateCount];
+        candidateLngs = new double[candidateCount];
+        distances = new double[participantCount];
+
+        // 서울 시내 범위의 임의 좌표
+        for (int i = 0; i < participantCount; i++) {
+            participantLats[i] = 37.45 + random.nextDouble() * 0.2;
+            participantLngs[i] = 126.85 + random.nextDouble() * 0.3;
+            participantPoints.add(point(participantLats[i], participantLngs[i]));
+        }
+        for (int i = 0; i < candidateCount; i++) {
+            candidateLats[i] = 37.53 + random.nextDouble() * 0.05;
+            candidateLngs[i] = 126.97 + random.nextDouble() * 0.05;
+            candidatePoints.add(point(candidateLats[i], candidateLngs[i]));
+        }
+        GeoUtils.precompute(participantLats, participantCount, participantLatsRad, participantCosLats);
+    }
+
+    @Benchmark
+    public void legacyPerObject(Blackhole blackhole) {
+        for (LocationPoint candidate : candidatePoints) {
+            for (LocationPoint participant : participantPoints) {
+                blackhole.consume(legacyDistance(participant, candidate));
+            }
+        }
+    }
+
+    @Benchmark
+    public void scalar(Blackhole blackhole) {
+        for (int c = 0; c < candidateCount; c++) {
+            for (int p = 0; p < participantCount; p++) {
+                blackhole.consume(GeoUtils.haversineMeters(
+                        participantLats[p], participantLngs[p], candidateLats[c], candidateLngs[c]));
+            }
+        }
+    }
+
+    @Benchmark
+    public void batch(Blackhole blackhole) {
+        for (int c = 0; c < candidateCount; c++) {
+            GeoUtils.haversineMetersBatch(candidateLats[c], candidateLngs[c],
+                    participantLatsRad, participantCosLats, participantLngs, participantCount, distances);
+            blackhole.consume(distances);
+        }
+    }
+
+    @Benchmark
+    public void equirectangularBatch(Blackhole blackhole) {
+        for (int c = 0; c < candidateCount; c++) {
+            GeoUtils.equirectangularMetersBatch(candidateLats[c], candidateLngs[c],
+                    participantLats, participantLngs, participantCount, distances);
+            blackhole.consume(distances);
+        }
+    }
+
+    /**
+     * 기존 MiddlePointCalculator.calculateDistance 구현 (비교 기준)
+     */
+    private static double legacyDistance(LocationPoint point1, LocationPoint point2) {
+        final int R = 6371;
+
+        double latDistance = Math.toRadians(point2.getLatitude() - point1.getLatitude());
+        double lonDistance = Math.toRadians(point2.getLongitude() - point1.getLongitude());
+
+        double a = Math.sin(latDistance / 2) * Math.sin(latDistance / 2)
+                + Math.cos(Math.toRadians(point1.getLatitude()))
+                * Math.cos(Math.toRadians(point2.getLatitude()))
+                * Math.sin(lonDistance / 2) * Math.sin(lonDistance / 2);
+
+        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+
+        return R * c * 1000;
+    }
+
+    private static LocationPoint point(double latitude, double longitude) {
+        return LocationPoint.builder()
+                .latitude(latitude)
+                .longitude(longitude)
+                .build();
+    }
+}
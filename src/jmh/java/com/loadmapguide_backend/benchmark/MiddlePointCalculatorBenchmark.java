@@ -0,0 +1,102 @@
+package com.loadmapguide_backend.benchmark;
+
+import com.loadmapguide_backend.domain.location.dto.MiddlePointResponse;
+import com.loadmapguide_backend.domain.location.entity.LocationPoint;
+import com.loadmapguide_backend.domain.location.service.AdaptiveGridSearch;
+import com.loadmapguide_backend.domain.location.service.CentroidMidpointStrategy;
+import com.loadmapguide_backend.domain.location.service.CommercialAreaIndex;
+import com.loadmapguide_backend.domain.location.service.GeometricMedianMidpointStrategy;
+import com.loadmapguide_backend.domain.location.service.MiddlePointCalculator;
+import com.loadmapguide_backend.domain.location.service.MiddlePointResultCache;
+import com.loadmapguide_backend.domain.location.service.MinimaxMidpointStrategy;
+import com.loadmapguide_backend.domain.location.service.StraightLineTravelTimeMatrixProvider;
+import com.loadmapguide_backend.domain.location.service.TravelTimeLowerBound;
+import com.loadmapguide_backend.domain.location.service.TravelTimeProperties;
+import com.loadmapguide_backend.global.common.enums.MidpointStrategyType;
+import com.loadmapguide_backend.global.common.enums.TransportationType;
+import com.loadmapguide_backend.global.scoring.ScoringModelRegistry;
+import com.loadmapguide_backend.global.scoring.ScoringProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 중간지점 계산 전체 경로 벤치마크
+ * 후보지점 생성(적응형 격자 탐색), 이동시간 행렬, 가지치기, 점수 모델까지 한 요청 단위로 측정한다.
+ * 이동시간은 직선거리 추정, 주소 조회는 입력 그대로 반환하는 스텁을 사용하며 결과 캐시는 끈다.
+ * 외부 API를 사용하는 협력 객체(좌표 변환, 경로, 실시간 교통, 역지오코딩)는 이 경로에서 호출되지 않으므로 null로 둔다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MiddlePointCalculatorBenchmark {
+
+    @Param({"2", "5", "10", "20", "50"})
+    private int participantCount;
+
+    @Param({"true", "false"})
+    private boolean pruning;
+
+    @Param({"CENTROID", "GEOMETRIC_MEDIAN"})
+    private MidpointStrategyType strategy;
+
+    private MiddlePointCalculator calculator;
+    private List<LocationPoint> participants;
+
+    @Setup
+    public void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+        CommercialAreaIndex commercialAreaIndex = new CommercialAreaIndex(
+                new DefaultResourceLoader(), "classpath:data/commercial-hotspots.csv");
+        commercialAreaIndex.load();
+
+        calculator = new MiddlePointCalculator(
+                null,
+                null,
+                null,
+                null,
+                new AdaptiveGridSearch(),
+                commercialAreaIndex,
+                List.of(new CentroidMidpointStrategy(), new GeometricMedianMidpointStrategy(),
+                        new MinimaxMidpointStrategy()),
+                List.of(new StraightLineTravelTimeMatrixProvider()),
+                new TravelTimeProperties(),
+                new MiddlePointResultCache(new ConcurrentMapCacheManager(), meterRegistry, false, 50),
+                new ScoringModelRegistry(new ScoringProperties()),
+                null,
+                new TravelTimeLowerBound(),
+                pruning,
+                Runnable::run,
+                meterRegistry);
+
+        // 서울 시내 범위의 임의 좌표
+        Random random = new Random(42);
+        participants = new ArrayList<>(participantCount);
+        for (int i = 0; i < participantCount; i++) {
+            participants.add(LocationPoint.builder()
+                    .latitude(37.45 + random.nextDouble() * 0.2)
+                    .longitude(126.85 + random.nextDouble() * 0.3)
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public MiddlePointResponse calculate() {
+        return calculator.calculateForCoordinates(
+                participants, TransportationType.PUBLIC_TRANSPORT, null, strategy, points -> points);
+    }
+}
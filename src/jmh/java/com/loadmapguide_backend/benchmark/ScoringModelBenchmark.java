@@ -0,0 +1,89 @@
+package com.loadmapguide_backend.benchmark;
+
+import com.loadmapguide_backend.global.scoring.ScoringFeature;
+import com.loadmapguide_backend.global.scoring.ScoringModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 종합 점수 계산 벤치마크
+ * 기존 하드코딩 가중치 공식과 점수 모델 일괄 내적을 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ScoringModelBenchmark {
+
+    @Param({"25", "80", "1000"})
+    private int candidateCount;
+
+    private double[] totalTravelTimes;
+    private double[] commercialScores;
+    private double[] fairnessScores;
+    private double[] features;
+    private double[] scores;
+    private ScoringModel model;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        totalTravelTimes = new double[candidateCount];
+        commercialScores = new double[candidateCount];
+        fairnessScores = new double[candidateCount];
+        features = new double[candidateCount * ScoringModel.FEATURE_COUNT];
+        scores = new double[candidateCount];
+
+        for (int c = 0; c < candidateCount; c++) {
+            totalTravelTimes[c] = random.nextDouble() * 120;
+            commercialScores[c] = 20 + random.nextDouble() * 95;
+            fairnessScores[c] = random.nextDouble() * 100;
+
+            int offset = c * ScoringModel.FEATURE_COUNT;
+            features[offset + ScoringFeature.TRAVEL_TIME.ordinal()] = Math.max(0, 100 - totalTravelTimes[c] * 2);
+            features[offset + ScoringFeature.COMMERCIAL_DENSITY.ordinal()] = commercialScores[c];
+            features[offset + ScoringFeature.FAIRNESS.ordinal()] = fairnessScores[c];
+        }
+
+        Map<ScoringFeature, Double> weights = new EnumMap<>(ScoringFeature.class);
+        weights.put(ScoringFeature.TRAVEL_TIME, 0.5);
+        weights.put(ScoringFeature.COMMERCIAL_DENSITY, 0.3);
+        weights.put(ScoringFeature.FAIRNESS, 0.2);
+        model = ScoringModel.compile("middle-point", weights);
+    }
+
+    @Benchmark
+    public void handCoded(Blackhole blackhole) {
+        for (int c = 0; c < candidateCount; c++) {
+            scores[c] = legacyOverallScore(totalTravelTimes[c], commercialScores[c], fairnessScores[c]);
+        }
+        blackhole.consume(scores);
+    }
+
+    @Benchmark
+    public void scoringModel(Blackhole blackhole) {
+        model.scoreAll(features, candidateCount, scores);
+        blackhole.consume(scores);
+    }
+
+    /**
+     * 기존 MiddlePointCalculator.calculateOverallScore 구현 (비교 기준)
+     */
+    private static double legacyOverallScore(double travelTime, double commercialScore, double fairnessScore) {
+        double timeScore = Math.max(0, 100 - travelTime * 2) * 0.5;
+        double commercialWeight = commercialScore * 0.3;
+        double fairnessWeight = fairnessScore * 0.2;
+        return timeScore + commercialWeight + fairnessWeight;
+    }
+}
@@ -1,18 +1,34 @@
 package com.loadmapguide_backend.domain.location.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.loadmapguide_backend.domain.location.dto.LocationRequest;
 import com.loadmapguide_backend.domain.location.dto.MeetingSessionRequest;
 import com.loadmapguide_backend.domain.location.dto.MiddlePointResponse;
 import com.loadmapguide_backend.domain.location.dto.MiddlePointResponseDto;
+import com.loadmapguide_backend.domain.location.service.BulkMiddlePointService;
 import com.loadmapguide_backend.domain.location.service.MiddlePointCalculator;
 import com.loadmapguide_backend.global.common.dto.BaseResponse;
+import com.loadmapguide_backend.global.common.enums.MidpointStrategyType;
 import com.loadmapguide_backend.global.external.weather.WeatherApiClient;
+import com.loadmapguide_backend.global.exception.BusinessException;
+import com.loadmapguide_backend.global.exception.ErrorCode;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 @Slf4j
 @RestController
@@ -22,21 +38,130 @@ public class LocationController {
     
     private final MiddlePointCalculator middlePointCalculator;
     private final WeatherApiClient weatherApiClient;
+    private final BulkMiddlePointService bulkMiddlePointService;
+    private final ObjectMapper objectMapper;
+    
+    @Value("${middle-point.bulk.timeout-ms:3600000}")
+    private long bulkTimeoutMillis;
+    
+    private static final long STREAM_TIMEOUT_MS = 30_000L;
     
     /**
      * 중간지점 계산
+     * 계산은 별도 스레드 풀과 비동기 역지오코딩으로 진행되고, 요청 스레드는 즉시 반환된다
      */
     @PostMapping("/middle-point")
-    public BaseResponse<MiddlePointResponse> calculateMiddlePoint(
+    public CompletableFuture<BaseResponse<MiddlePointResponse>> calculateMiddlePoint(
             @Valid @RequestBody MeetingSessionRequest request) {
             
-        log.info("중간지점 계산 요청 - 세션: {}, 참여자: {}, 교통수단: {}", 
+        log.info("중간지점 계산 요청 - 세션: {}, 참여자: {}, 교통수단: {}, 계산 전략: {}", 
+                request.getSessionName(), request.getParticipantCount(), request.getTransportationType(),
+                request.getMidpointStrategy());
+        
+        return middlePointCalculator.calculateOptimalMeetingPointAsync(
+                        request.getStartLocations(), request.getTransportationType(), request.getMidpointStrategy(),
+                        Boolean.TRUE.equals(request.getTrafficAware()))
+                .thenApply(response -> BaseResponse.success("중간지점이 성공적으로 계산되었습니다.", response));
+    }
+    
+    /**
+     * 중간지점 계산 (SSE 스트리밍)
+     * 후보지점이 점수화될 때마다 candidate 이벤트를, 계산이 끝나면 최종 순위가 담긴 result 이벤트를 전송한다
+     */
+    @PostMapping(value = "/middle-point/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamMiddlePoint(@Valid @RequestBody MeetingSessionRequest request) {
+        
+        log.info("중간지점 스트리밍 계산 요청 - 세션: {}, 참여자: {}, 교통수단: {}", 
                 request.getSessionName(), request.getParticipantCount(), request.getTransportationType());
         
-        MiddlePointResponse response = middlePointCalculator.calculateOptimalMeetingPoint(
-                request.getStartLocations(), request.getTransportationType());
+        SseEmitter emitter = new SseEmitter(STREAM_TIMEOUT_MS);
+        AtomicBoolean closed = new AtomicBoolean(false);
+        emitter.onCompletion(() -> closed.set(true));
+        emitter.onTimeout(() -> closed.set(true));
+        emitter.onError(error -> closed.set(true));
+        
+        middlePointCalculator.calculateOptimalMeetingPointAsync(
+                        request.getStartLocations(), request.getTransportationType(), request.getMidpointStrategy(),
+                        Boolean.TRUE.equals(request.getTrafficAware()),
+                        candidate -> sendEvent(emitter, closed, "candidate", candidate))
+                .whenComplete((response, error) -> {
+                    if (closed.get()) {
+                        return;
+                    }
+                    if (error != null) {
+                        Throwable cause = error instanceof CompletionException && error.getCause() != null
+                                ? error.getCause() : error;
+                        ErrorCode errorCode = cause instanceof BusinessException businessException
+                                ? businessException.getErrorCode() : ErrorCode.LOCATION_CALCULATION_FAILED;
+                        sendEvent(emitter, closed, "error", BaseResponse.error(errorCode.getMessage()));
+                        emitter.complete();
+                        return;
+                    }
+                    sendEvent(emitter, closed, "result", BaseResponse.success("중간지점이 성공적으로 계산되었습니다.", response));
+                    emitter.complete();
+                });
+        
+        return emitter;
+    }
+    
+    /**
+     * SSE 이벤트 전송 (연결이 끊긴 경우 이후 이벤트는 무시)
+     */
+    private void sendEvent(SseEmitter emitter, AtomicBoolean closed, String name, Object data) {
+        if (closed.get()) {
+            return;
+        }
+        try {
+            emitter.send(SseEmitter.event().name(name).data(data, MediaType.APPLICATION_JSON));
+        } catch (IOException | IllegalStateException e) {
+            log.debug("SSE 전송 실패, 스트림 종료: {}", e.getMessage());
+            closed.set(true);
+        }
+    }
+    
+    /**
+     * 대량 중간지점 계산 (NDJSON 입력/출력)
+     * 한 줄에 모임 하나씩 받아 병렬로 계산하고, 모임 결과를 완료 순서대로 한 줄씩 전송한 뒤 마지막 줄에 처리 요약을 보낸다.
+     * 요청 본문은 계산 스레드가 도착하는 대로 한 줄씩 읽으므로 전체를 메모리에 올리지 않는다
+     */
+    @PostMapping(value = "/middle-point/bulk",
+            consumes = MediaType.APPLICATION_NDJSON_VALUE, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<ResponseBodyEmitter> calculateMiddlePointsBulk(InputStream requestBody) {
         
-        return BaseResponse.success("중간지점이 성공적으로 계산되었습니다.", response);
+        log.info("대량 중간지점 계산 요청");
+        
+        ResponseBodyEmitter emitter = new ResponseBodyEmitter(bulkTimeoutMillis);
+        bulkMiddlePointService.calculateAll(requestBody, result -> sendLine(emitter, result))
+                .whenComplete((summary, error) -> {
+                    if (error != null) {
+                        emitter.completeWithError(error);
+                        return;
+                    }
+                    try {
+                        sendLine(emitter, summary);
+                        emitter.complete();
+                    } catch (RuntimeException e) {
+                        log.debug("대량 계산 요약 전송 실패: {}", e.getMessage());
+                    }
+                });
+        
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(emitter);
+    }
+    
+    /**
+     * NDJSON 한 줄 전송 (여러 계산 스레드에서 호출되므로 줄 단위로 직렬화)
+     */
+    private void sendLine(ResponseBodyEmitter emitter, Object data) {
+        try {
+            String line = objectMapper.writeValueAsString(data) + "\n";
+            synchronized (emitter) {
+                emitter.send(line, MediaType.TEXT_PLAIN);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
     
     /**
@@ -45,7 +170,9 @@ public class LocationController {
     @PostMapping("/middle-point/simple")
     public BaseResponse<MiddlePointResponse> calculateSimpleMiddlePoint(
             @Valid @RequestBody List<LocationRequest> locations,
-            @RequestParam(defaultValue = "PUBLIC_TRANSPORT") String transportationType) {
+            @RequestParam(defaultValue = "PUBLIC_TRANSPORT") String transportationType,
+            @RequestParam(defaultValue = "CENTROID") MidpointStrategyType midpointStrategy,
+            @RequestParam(defaultValue = "false") boolean trafficAware) {
             
         log.info("간단 중간지점 계산 요청 - 참여자: {}, 교통수단: {}", 
                 locations.size(), transportationType);
@@ -54,7 +181,7 @@ public class LocationController {
                 com.loadmapguide_backend.global.common.enums.TransportationType.valueOf(transportationType);
         
         MiddlePointResponse response = middlePointCalculator.calculateOptimalMeetingPoint(
-                locations, transport);
+                locations, transport, midpointStrategy, trafficAware);
         
         return BaseResponse.success("중간지점 계산이 완료되었습니다.", response);
     }
@@ -65,7 +192,9 @@ public class LocationController {
     @PostMapping("/middle-point/with-weather")
     public BaseResponse<MiddlePointResponseDto> calculateMiddlePointWithWeather(
             @Valid @RequestBody List<LocationRequest> locations,
-            @RequestParam(defaultValue = "PUBLIC_TRANSPORT") String transportationType) {
+            @RequestParam(defaultValue = "PUBLIC_TRANSPORT") String transportationType,
+            @RequestParam(defaultValue = "CENTROID") MidpointStrategyType midpointStrategy,
+            @RequestParam(defaultValue = "false") boolean trafficAware) {
             
         log.info("날씨 포함 중간지점 계산 요청 - 참여자: {}, 교통수단: {}", 
                 locations.size(), transportationType);
@@ -75,7 +204,7 @@ public class LocationController {
         
         // 중간지점 계산
         MiddlePointResponse response = middlePointCalculator.calculateOptimalMeetingPoint(
-                locations, transport);
+                locations, transport, midpointStrategy, trafficAware);
         
         // 최적 중간지점의 날씨 정보 조회
         MiddlePointResponse.LocationPoint bestCandidate = response.getOptimalLocation();
@@ -0,0 +1,77 @@
+package com.loadmapguide_backend.domain.location.controller;
+
+import com.loadmapguide_backend.domain.location.dto.LocationRequest;
+import com.loadmapguide_backend.domain.location.dto.MeetingSessionRequest;
+import com.loadmapguide_backend.domain.location.dto.MeetingSessionResponse;
+import com.loadmapguide_backend.domain.location.service.MeetingSessionService;
+import com.loadmapguide_backend.global.common.dto.BaseResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+@Slf4j
+@RestController
+@RequestMapping("/sessions")
+@RequiredArgsConstructor
+public class MeetingSessionController {
+    
+    private final MeetingSessionService meetingSessionService;
+    
+    /**
+     * 모임 세션 생성
+     */
+    @PostMapping
+    public BaseResponse<MeetingSessionResponse> createSession(@Valid @RequestBody MeetingSessionRequest request) {
+        log.info("세션 생성 요청 - 세션: {}, 참여자: {}", request.getSessionName(), request.getParticipantCount());
+        
+        return BaseResponse.success("세션이 생성되었습니다.", meetingSessionService.createSession(request));
+    }
+    
+    /**
+     * 모임 세션 조회
+     */
+    @GetMapping("/{sessionId}")
+    public BaseResponse<MeetingSessionResponse> getSession(@PathVariable UUID sessionId) {
+        return BaseResponse.success(meetingSessionService.getSession(sessionId));
+    }
+    
+    /**
+     * 참여자 추가
+     */
+    @PostMapping("/{sessionId}/participants")
+    public BaseResponse<MeetingSessionResponse> addParticipant(
+            @PathVariable UUID sessionId,
+            @Valid @RequestBody LocationRequest request) {
+        
+        return BaseResponse.success("참여자가 추가되었습니다.",
+                meetingSessionService.addParticipant(sessionId, request));
+    }
+    
+    /**
+     * 참여자 위치 변경
+     */
+    @PutMapping("/{sessionId}/participants/{participantIndex}")
+    public BaseResponse<MeetingSessionResponse> moveParticipant(
+            @PathVariable UUID sessionId,
+            @PathVariable int participantIndex,
+            @Valid @RequestBody LocationRequest request) {
+        
+        return BaseResponse.success("참여자 위치가 변경되었습니다.",
+                meetingSessionService.moveParticipant(sessionId, participantIndex, request));
+    }
+    
+    /**
+     * 참여자 삭제
+     */
+    @DeleteMapping("/{sessionId}/participants/{participantIndex}")
+    public BaseResponse<MeetingSessionResponse> removeParticipant(
+            @PathVariable UUID sessionId,
+            @PathVariable int participantIndex) {
+        
+        return BaseResponse.success("참여자가 삭제되었습니다.",
+                meetingSessionService.removeParticipant(sessionId, participantIndex));
+    }
+}
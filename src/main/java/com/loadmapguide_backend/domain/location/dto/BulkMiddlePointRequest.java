@@ -0,0 +1,34 @@
+package com.loadmapguide_backend.domain.location.dto;
+
+import com.loadmapguide_backend.global.common.enums.MidpointStrategyType;
+import com.loadmapguide_backend.global.common.enums.TransportationType;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 대량 중간지점 계산 모임 정의 (NDJSON 한 줄)
+ */
+@Getter
+@NoArgsConstructor
+public class BulkMiddlePointRequest {
+    
+    private String groupId;
+    
+    private List<LocationRequest> startLocations;
+    
+    private TransportationType transportationType = TransportationType.PUBLIC_TRANSPORT;
+    
+    private MidpointStrategyType midpointStrategy = MidpointStrategyType.CENTROID;
+    
+    @Builder
+    public BulkMiddlePointRequest(String groupId, List<LocationRequest> startLocations,
+                                  TransportationType transportationType, MidpointStrategyType midpointStrategy) {
+        this.groupId = groupId;
+        this.startLocations = startLocations;
+        this.transportationType = transportationType;
+        this.midpointStrategy = midpointStrategy;
+    }
+}
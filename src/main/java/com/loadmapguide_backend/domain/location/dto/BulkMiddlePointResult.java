@@ -0,0 +1,37 @@
+package com.loadmapguide_backend.domain.location.dto;
+
+import com.loadmapguide_backend.global.exception.ErrorCode;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 대량 중간지점 계산 모임별 결과 (NDJSON 한 줄, 완료 순서대로 전송)
+ */
+@Getter
+@Builder
+public class BulkMiddlePointResult {
+    
+    private final String type = "result";
+    private String groupId;
+    private boolean success;
+    private MiddlePointResponse result;
+    private String errorCode;
+    private String message;
+    
+    public static BulkMiddlePointResult success(String groupId, MiddlePointResponse result) {
+        return BulkMiddlePointResult.builder()
+                .groupId(groupId)
+                .success(true)
+                .result(result)
+                .build();
+    }
+    
+    public static BulkMiddlePointResult failure(String groupId, ErrorCode errorCode, String message) {
+        return BulkMiddlePointResult.builder()
+                .groupId(groupId)
+                .success(false)
+                .errorCode(errorCode.getCode())
+                .message(message)
+                .build();
+    }
+}
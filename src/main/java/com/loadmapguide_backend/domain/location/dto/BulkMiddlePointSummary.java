@@ -0,0 +1,23 @@
+package com.loadmapguide_backend.domain.location.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 대량 중간지점 계산 처리 요약 (NDJSON 마지막 줄)
+ */
+@Getter
+@Builder
+public class BulkMiddlePointSummary {
+    
+    private final String type = "summary";
+    private int totalGroups;
+    private int succeeded;
+    private int failed;
+    private long elapsedMs;
+    private double groupsPerSecond;
+    private long geocodeRequests;
+    private long geocodeDeduplicated;     // 배치 내 중복으로 재사용된 지오코딩 수
+    private long reverseGeocodeRequests;
+    private long reverseGeocodeDeduplicated;
+}
@@ -1,5 +1,6 @@
 package com.loadmapguide_backend.domain.location.dto;
 
+import com.loadmapguide_backend.global.common.enums.TransportationType;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.Builder;
@@ -19,14 +20,17 @@ public class LocationRequest {
     private String placeName;
     private String participantName;
     
+    private TransportationType transportationType; // 참여자별 교통수단 (없으면 요청 전체 교통수단)
+    
     @Builder
     public LocationRequest(String address, Double latitude, Double longitude,
-                         String placeName, String participantName) {
+                         String placeName, String participantName, TransportationType transportationType) {
         this.address = address;
         this.latitude = latitude;
         this.longitude = longitude;
         this.placeName = placeName;
         this.participantName = participantName;
+        this.transportationType = transportationType;
     }
     
     public boolean hasCoordinates() {
@@ -1,5 +1,6 @@
 package com.loadmapguide_backend.domain.location.dto;
 
+import com.loadmapguide_backend.global.common.enums.MidpointStrategyType;
 import com.loadmapguide_backend.global.common.enums.PlaceCategory;
 import com.loadmapguide_backend.global.common.enums.TransportationType;
 import jakarta.validation.Valid;
@@ -26,6 +27,10 @@ public class MeetingSessionRequest {
     
     private TransportationType transportationType = TransportationType.PUBLIC_TRANSPORT;
     
+    private MidpointStrategyType midpointStrategy = MidpointStrategyType.CENTROID;
+    
+    private Boolean trafficAware = false; // 실시간 교통 반영 (자동차)
+    
     @Min(value = 5000, message = "최소 예산은 5000원입니다")
     @Max(value = 100000, message = "최대 예산은 100000원입니다")
     private Integer maxBudget;
@@ -46,7 +51,8 @@ public class MeetingSessionRequest {
     public MeetingSessionRequest(String sessionName, List<LocationRequest> startLocations,
                                TransportationType transportationType, Integer maxBudget,
                                List<PlaceCategory> preferredCategories, String purpose,
-                               Boolean indoorOnly, Integer searchRadius, Boolean considerWeather) {
+                               Boolean indoorOnly, Integer searchRadius, Boolean considerWeather,
+                               MidpointStrategyType midpointStrategy, Boolean trafficAware) {
         this.sessionName = sessionName;
         this.startLocations = startLocations;
         this.transportationType = transportationType;
@@ -56,6 +62,8 @@ public class MeetingSessionRequest {
         this.indoorOnly = indoorOnly;
         this.searchRadius = searchRadius;
         this.considerWeather = considerWeather;
+        this.midpointStrategy = midpointStrategy;
+        this.trafficAware = trafficAware;
     }
     
     public Integer getParticipantCount() {
@@ -0,0 +1,31 @@
+package com.loadmapguide_backend.domain.location.dto;
+
+import com.loadmapguide_backend.domain.location.entity.MeetingSession;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Getter
+@Builder
+public class MeetingSessionResponse {
+    
+    private UUID sessionId;
+    private String sessionName;
+    private Integer participantCount;
+    private String transportationType;
+    private LocalDateTime expiresAt;
+    private MiddlePointResponse result;
+    
+    public static MeetingSessionResponse of(MeetingSession session, MiddlePointResponse result) {
+        return MeetingSessionResponse.builder()
+                .sessionId(session.getId())
+                .sessionName(session.getSessionName())
+                .participantCount(session.getParticipantCount())
+                .transportationType(session.getTransportationType().getDescription())
+                .expiresAt(session.getExpiresAt())
+                .result(result)
+                .build();
+    }
+}
@@ -1,13 +1,18 @@
 package com.loadmapguide_backend.domain.location.dto;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
+import java.io.Serializable;
 import java.util.List;
 
 @Getter
-@Builder
-public class MiddlePointResponse {
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class MiddlePointResponse implements Serializable {
     
     private LocationPoint optimalLocation;
     private List<LocationPoint> candidateLocations;
@@ -15,12 +20,15 @@ public class MiddlePointResponse {
     
     @Getter
     @Builder
-    public static class LocationPoint {
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class LocationPoint implements Serializable {
         private Double latitude;
         private Double longitude;
         private String address;
         private String placeName;
         private Double averageTravelTime;
+        private Double fairnessScore;
         private Double commercialScore;
         private Double overallScore;
         private List<RouteInfo> routesFromStartPoints;
@@ -28,7 +36,9 @@ public class MiddlePointResponse {
     
     @Getter
     @Builder
-    public static class RouteInfo {
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RouteInfo implements Serializable {
         private String fromAddress;
         private Integer travelTimeMinutes;
         private Integer transferCount;
@@ -36,12 +46,19 @@ public class MiddlePointResponse {
     }
     
     @Getter
-    @Builder
-    public static class CalculationInfo {
+    @Builder(toBuilder = true)
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CalculationInfo implements Serializable {
         private Integer totalParticipants;
         private String transportationType;
         private Long calculationTimeMs;
         private String algorithm;
         private Double fairnessScore;
+        private Double travelTimeVariance;
+        private Double maxMinTravelTimeRatio;
+        private Integer realTimeTrafficCandidates; // 실시간 교통으로 재평가된 후보지점 수
+        private Double pruneRatio; // 점수 상한으로 이동시간 계산 없이 제외된 후보지점 비율
+        private Boolean cached; // 이전 계산 결과를 캐시에서 가져왔는지 (calculationTimeMs는 캐시 조회 시간)
     }
 }
\ No newline at end of file
@@ -0,0 +1,59 @@
+package com.loadmapguide_backend.domain.location.entity;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 세션 후보지점 이동시간 행렬
+ * 후보지점 좌표는 세션 생성 시 고정하고, 참여자별 후보지점 이동시간(분)을 참여자 순서대로 한 행씩 보관한다.
+ * 참여자가 추가/이동/삭제되면 해당 행만 교체한 새 행렬을 만든다 (JSON 컬럼 변경 감지를 위해 불변으로 사용).
+ * 상위 후보지점 간 최소 간격(탐색 초기 간격)도 함께 보관하며, 이 값이 없는 기존 세션은 0(간격 제한 없음)으로 읽힌다.
+ */
+@Getter
+@NoArgsConstructor
+public class CandidateMatrix {
+    
+    private double[] latitudes;
+    private double[] longitudes;
+    private List<double[]> travelTimes;
+    private double minSeparationDegrees;
+    
+    @Builder
+    public CandidateMatrix(double[] latitudes, double[] longitudes, List<double[]> travelTimes,
+                           double minSeparationDegrees) {
+        this.latitudes = latitudes;
+        this.longitudes = longitudes;
+        this.travelTimes = travelTimes;
+        this.minSeparationDegrees = minSeparationDegrees;
+    }
+    
+    public int candidateCount() {
+        return latitudes.length;
+    }
+    
+    public int participantCount() {
+        return travelTimes.size();
+    }
+    
+    public CandidateMatrix withParticipantAdded(double[] travelTimeRow) {
+        List<double[]> rows = new ArrayList<>(travelTimes);
+        rows.add(travelTimeRow);
+        return new CandidateMatrix(latitudes, longitudes, rows, minSeparationDegrees);
+    }
+    
+    public CandidateMatrix withParticipantReplaced(int index, double[] travelTimeRow) {
+        List<double[]> rows = new ArrayList<>(travelTimes);
+        rows.set(index, travelTimeRow);
+        return new CandidateMatrix(latitudes, longitudes, rows, minSeparationDegrees);
+    }
+    
+    public CandidateMatrix withParticipantRemoved(int index) {
+        List<double[]> rows = new ArrayList<>(travelTimes);
+        rows.remove(index);
+        return new CandidateMatrix(latitudes, longitudes, rows, minSeparationDegrees);
+    }
+}
@@ -1,5 +1,6 @@
 package com.loadmapguide_backend.domain.location.entity;
 
+import com.loadmapguide_backend.domain.location.dto.MiddlePointResponse;
 import com.loadmapguide_backend.global.common.entity.BaseEntity;
 import com.loadmapguide_backend.global.common.enums.TransportationType;
 import jakarta.persistence.*;
@@ -11,6 +12,7 @@ import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
@@ -45,7 +47,11 @@ public class MeetingSession extends BaseEntity {
     
     @JdbcTypeCode(SqlTypes.JSON)
     @Column(name = "calculated_results", columnDefinition = "json")
-    private Object calculatedResults;
+    private MiddlePointResponse calculatedResults;
+    
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "candidate_matrix", columnDefinition = "json")
+    private CandidateMatrix candidateMatrix;
     
     @Column(name = "expires_at")
     private LocalDateTime expiresAt;
@@ -53,6 +59,11 @@ public class MeetingSession extends BaseEntity {
     @Column(name = "last_accessed")
     private LocalDateTime lastAccessed;
     
+    // 참여자 변경은 JSON 컬럼 전체를 덮어쓰므로 동시 변경 시 나중 요청이 실패하도록 낙관적 잠금
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+    
     @Builder
     public MeetingSession(String sessionName, Integer participantCount, 
                          List<LocationPoint> startLocations, TransportationType transportationType,
@@ -66,11 +77,51 @@ public class MeetingSession extends BaseEntity {
         this.lastAccessed = LocalDateTime.now();
     }
     
-    public void updateResults(Object results) {
+    public void updateResults(MiddlePointResponse results) {
         this.calculatedResults = results;
         this.lastAccessed = LocalDateTime.now();
     }
     
+    public void initializeCandidates(CandidateMatrix candidateMatrix) {
+        this.candidateMatrix = candidateMatrix;
+        this.lastAccessed = LocalDateTime.now();
+    }
+    
+    /**
+     * 참여자 추가 (후보지점 이동시간 행 함께 추가)
+     */
+    public void addParticipant(LocationPoint participant, double[] travelTimeRow) {
+        List<LocationPoint> locations = new ArrayList<>(this.startLocations);
+        locations.add(participant);
+        this.startLocations = locations;
+        this.candidateMatrix = this.candidateMatrix.withParticipantAdded(travelTimeRow);
+        this.participantCount = locations.size();
+        this.lastAccessed = LocalDateTime.now();
+    }
+    
+    /**
+     * 참여자 위치 변경 (해당 참여자의 이동시간 행만 교체)
+     */
+    public void moveParticipant(int index, LocationPoint participant, double[] travelTimeRow) {
+        List<LocationPoint> locations = new ArrayList<>(this.startLocations);
+        locations.set(index, participant);
+        this.startLocations = locations;
+        this.candidateMatrix = this.candidateMatrix.withParticipantReplaced(index, travelTimeRow);
+        this.lastAccessed = LocalDateTime.now();
+    }
+    
+    /**
+     * 참여자 삭제 (해당 참여자의 이동시간 행 함께 삭제)
+     */
+    public void removeParticipant(int index) {
+        List<LocationPoint> locations = new ArrayList<>(this.startLocations);
+        locations.remove(index);
+        this.startLocations = locations;
+        this.candidateMatrix = this.candidateMatrix.withParticipantRemoved(index);
+        this.participantCount = locations.size();
+        this.lastAccessed = LocalDateTime.now();
+    }
+    
     public void updateLastAccessed() {
         this.lastAccessed = LocalDateTime.now();
     }
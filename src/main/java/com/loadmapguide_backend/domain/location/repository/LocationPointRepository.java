@@ -24,15 +24,18 @@ public interface LocationPointRepository extends JpaRepository<LocationPoint, Lo
             @Param("minLng") Double minLongitude,
             @Param("maxLng") Double maxLongitude);
     
+    /**
+     * 반경 내 위치 거리순 검색 (PostgreSQL + PostGIS 전용, V3 마이그레이션의 geog 공간 인덱스 사용)
+     */
     @Query(value = 
-           "SELECT *, " +
-           "ST_Distance_Sphere(POINT(longitude, latitude), POINT(:lng, :lat)) as distance " +
-           "FROM location_points " +
-           "HAVING distance <= :radiusMeters " +
-           "ORDER BY distance",
+           "SELECT * FROM location_points lp " +
+           "WHERE ST_DWithin(lp.geog, CAST(ST_SetSRID(ST_MakePoint(:lng, :lat), 4326) AS geography), :radiusMeters) " +
+           "ORDER BY lp.geog <-> CAST(ST_SetSRID(ST_MakePoint(:lng, :lat), 4326) AS geography) " +
+           "LIMIT :limit",
            nativeQuery = true)
     List<LocationPoint> findNearbyLocations(
             @Param("lat") Double latitude,
             @Param("lng") Double longitude,
-            @Param("radiusMeters") Double radiusMeters);
+            @Param("radiusMeters") Double radiusMeters,
+            @Param("limit") int limit);
 }
\ No newline at end of file
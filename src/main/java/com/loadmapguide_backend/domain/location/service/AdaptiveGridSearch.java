@@ -0,0 +1,153 @@
+package com.loadmapguide_backend.domain.location.service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 적응형 격자 탐색 (coarse-to-fine 패턴 탐색)
+ * 참여자 분포 크기에 비례한 간격으로 시작해 현재 최적점 주변 8방향을 평가하고,
+ * 개선이 없으면 간격을 절반으로 줄여가며 수렴할 때까지 반복한다.
+ */
+@Component
+public class AdaptiveGridSearch {
+
+    private static final double MIN_INITIAL_STEP = 0.003; // 약 300m
+    private static final double MAX_INITIAL_STEP = 0.05;  // 약 5km
+    private static final double MIN_STEP = 0.0005;        // 약 50m (수렴 기준)
+    private static final int MAX_EVALUATIONS = 80;
+
+    private static final int[][] DIRECTIONS = {
+            {-1, -1}, {-1, 0}, {-1, 1},
+            {0, -1},           {0, 1},
+            {1, -1},  {1, 0},  {1, 1}
+    };
+
+    /**
+     * 후보지점 일괄 평가 함수
+     * 반환 목록은 입력 좌표 순서와 같아야 한다
+     */
+    @FunctionalInterface
+    public interface BatchEvaluator<T> {
+        List<T> evaluate(double[] latitudes, double[] longitudes, int count);
+    }
+
+    /**
+     * 시작점에서 점수가 최대가 되는 지점 탐색
+     *
+     * @param spreadDegrees 참여자 분포 크기 (위경도 범위 중 큰 값), 초기 탐색 간격 결정에 사용
+     */
+    public <T> SearchResult<T> search(double startLat, double startLng, double spreadDegrees,
+                                      BatchEvaluator<T> evaluator, ToDoubleFunction<T> scoreOf) {
+        return search(startLat, startLng, spreadDegrees, 0.0, evaluator, scoreOf);
+    }
+
+    /**
+     * 시작점에서 점수가 최대가 되는 지점 탐색 (최소 탐색 간격 지정)
+     *
+     * @param resolutionDegrees 평가 함수가 구분할 수 있는 최소 간격 (예: 사전 계산 격자 크기), 이보다 좁히지 않는다
+     */
+    public <T> SearchResult<T> search(double startLat, double startLng, double spreadDegrees, double resolutionDegrees,
+                                      BatchEvaluator<T> evaluator, ToDoubleFunction<T> scoreOf) {
+
+        double minStep = Math.max(MIN_STEP, resolutionDegrees);
+        double initialStep = initialStep(spreadDegrees, resolutionDegrees);
+        double step = initialStep;
+
+        List<T> evaluated = new ArrayList<>();
+        Set<Long> visited = new HashSet<>();
+        double[] lats = new double[DIRECTIONS.length];
+        double[] lngs = new double[DIRECTIONS.length];
+
+        // 시작점 평가
+        lats[0] = startLat;
+        lngs[0] = startLng;
+        visited.add(gridKey(startLat, startLng));
+        T start = evaluator.evaluate(lats, lngs, 1).get(0);
+        evaluated.add(start);
+
+        double bestLat = startLat;
+        double bestLng = startLng;
+        double bestScore = scoreOf.applyAsDouble(start);
+        int iterations = 0;
+
+        while (step >= minStep && evaluated.size() < MAX_EVALUATIONS) {
+            iterations++;
+
+            // 현재 최적점 주변 미방문 지점 수집 (평가 예산 범위 내)
+            int count = 0;
+            int budget = MAX_EVALUATIONS - evaluated.size();
+            for (int[] direction : DIRECTIONS) {
+                if (count >= budget) break;
+
+                double lat = bestLat + direction[0] * step;
+                double lng = bestLng + direction[1] * step;
+                if (visited.add(gridKey(lat, lng))) {
+                    lats[count] = lat;
+                    lngs[count] = lng;
+                    count++;
+                }
+            }
+
+            boolean improved = false;
+            if (count > 0) {
+                List<T> results = evaluator.evaluate(lats, lngs, count);
+                for (int i = 0; i < count; i++) {
+                    T result = results.get(i);
+                    evaluated.add(result);
+
+                    double score = scoreOf.applyAsDouble(result);
+                    if (score > bestScore) {
+                        bestScore = score;
+                        bestLat = lats[i];
+                        bestLng = lngs[i];
+                        improved = true;
+                    }
+                }
+            }
+
+            // 개선이 없으면 탐색 간격 축소
+            if (!improved) {
+                step /= 2;
+            }
+        }
+
+        return new SearchResult<>(evaluated, evaluated.size(), iterations, initialStep);
+    }
+
+    /**
+     * 초기 탐색 간격 (참여자 분포 크기의 1/4, 약 300m~5km 범위, 최소 탐색 간격 이상)
+     * 상위 후보지점 간 최소 간격으로도 사용한다
+     */
+    public double initialStep(double spreadDegrees, double resolutionDegrees) {
+        double minStep = Math.max(MIN_STEP, resolutionDegrees);
+        return Math.max(minStep, Math.min(MAX_INITIAL_STEP, Math.max(MIN_INITIAL_STEP, spreadDegrees / 4)));
+    }
+
+    /**
+     * 방문 여부 판단용 격자 키 (약 0.1m 단위 반올림)
+     */
+    private long gridKey(double lat, double lng) {
+        long latKey = Math.round(lat * 1_000_000);
+        long lngKey = Math.round(lng * 1_000_000);
+        return (latKey << 32) | (lngKey & 0xFFFFFFFFL);
+    }
+
+    /**
+     * 탐색 결과
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class SearchResult<T> {
+        private final List<T> evaluatedCandidates;
+        private final int evaluationCount;
+        private final int iterationCount;
+        private final double initialStepDegrees;
+    }
+}
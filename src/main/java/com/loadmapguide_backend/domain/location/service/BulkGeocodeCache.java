@@ -0,0 +1,145 @@
+package com.loadmapguide_backend.domain.location.service;
+
+import com.loadmapguide_backend.domain.location.dto.LocationRequest;
+import com.loadmapguide_backend.domain.location.entity.LocationPoint;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * 대량 계산 배치 단위 지오코딩/역지오코딩 중복 제거 캐시
+ * 배치 하나에서만 사용하며, 같은 주소나 같은 좌표(약 1m 단위)는 먼저 요청한 모임의 조회 결과를 기다려 재사용한다.
+ * 동시에 같은 키를 요청해도 외부 조회는 한 번만 수행된다.
+ */
+class BulkGeocodeCache {
+    
+    private static final double COORDINATE_KEY_SCALE = 1e5; // 소수점 5자리 (약 1m)
+    
+    private final Map<String, CompletableFuture<LocationPoint>> coordinates = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<LocationPoint>> addresses = new ConcurrentHashMap<>();
+    private final LongAdder geocodeRequests = new LongAdder();
+    private final LongAdder geocodeDeduplicated = new LongAdder();
+    private final LongAdder reverseGeocodeRequests = new LongAdder();
+    private final LongAdder reverseGeocodeDeduplicated = new LongAdder();
+    
+    /**
+     * 출발지 좌표 변환 (배치 내 같은 출발지는 한 번만 변환)
+     * 변환에 실패한 출발지는 캐시하지 않고 예외를 그대로 전달한다
+     */
+    List<LocationPoint> resolveCoordinates(List<LocationRequest> requests,
+                                           Function<LocationRequest, LocationPoint> resolver) {
+        List<LocationPoint> resolved = new ArrayList<>(requests.size());
+        
+        for (LocationRequest request : requests) {
+            geocodeRequests.increment();
+            String key = request.hasCoordinates()
+                    ? request.getAddress() + "|" + coordinateKey(request.getLatitude(), request.getLongitude())
+                    : request.getAddress();
+            
+            CompletableFuture<LocationPoint> created = new CompletableFuture<>();
+            CompletableFuture<LocationPoint> existing = coordinates.putIfAbsent(key, created);
+            if (existing != null) {
+                geocodeDeduplicated.increment();
+                resolved.add(awaitCoordinate(existing));
+                continue;
+            }
+            
+            try {
+                LocationPoint point = resolver.apply(request);
+                created.complete(point);
+                resolved.add(point);
+            } catch (RuntimeException e) {
+                coordinates.remove(key, created);
+                created.completeExceptionally(e);
+                throw e;
+            }
+        }
+        
+        return resolved;
+    }
+    
+    /**
+     * 최종 후보지점 주소 조회 (배치 내 같은 좌표는 한 번만 조회)
+     * 처음 보는 좌표만 모아 resolver로 한 번에 조회하고, 조회에 실패하면 입력 지점 그대로 사용한다
+     */
+    List<LocationPoint> resolveAddresses(List<LocationPoint> points, UnaryOperator<List<LocationPoint>> resolver) {
+        List<CompletableFuture<LocationPoint>> futures = new ArrayList<>(points.size());
+        List<LocationPoint> ownedPoints = new ArrayList<>();
+        List<CompletableFuture<LocationPoint>> ownedFutures = new ArrayList<>();
+        
+        for (LocationPoint point : points) {
+            reverseGeocodeRequests.increment();
+            CompletableFuture<LocationPoint> created = new CompletableFuture<>();
+            CompletableFuture<LocationPoint> existing = addresses.putIfAbsent(
+                    coordinateKey(point.getLatitude(), point.getLongitude()), created);
+            if (existing != null) {
+                reverseGeocodeDeduplicated.increment();
+                futures.add(existing);
+            } else {
+                ownedPoints.add(point);
+                ownedFutures.add(created);
+                futures.add(created);
+            }
+        }
+        
+        if (!ownedPoints.isEmpty()) {
+            List<LocationPoint> resolved;
+            try {
+                resolved = resolver.apply(ownedPoints);
+            } catch (RuntimeException e) {
+                resolved = ownedPoints;
+            }
+            for (int i = 0; i < ownedFutures.size(); i++) {
+                ownedFutures.get(i).complete(resolved.get(i));
+            }
+        }
+        
+        List<LocationPoint> result = new ArrayList<>(points.size());
+        for (CompletableFuture<LocationPoint> future : futures) {
+            result.add(future.join());
+        }
+        return result;
+    }
+    
+    /**
+     * 먼저 요청한 모임의 변환 결과 대기
+     * 변환에 실패했으면 CompletionException이 아니라 원래 예외(BusinessException 등)를 그대로 전달한다
+     */
+    private static LocationPoint awaitCoordinate(CompletableFuture<LocationPoint> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+    
+    long getGeocodeRequests() {
+        return geocodeRequests.sum();
+    }
+    
+    long getGeocodeDeduplicated() {
+        return geocodeDeduplicated.sum();
+    }
+    
+    long getReverseGeocodeRequests() {
+        return reverseGeocodeRequests.sum();
+    }
+    
+    long getReverseGeocodeDeduplicated() {
+        return reverseGeocodeDeduplicated.sum();
+    }
+    
+    private static String coordinateKey(double latitude, double longitude) {
+        return Math.round(latitude * COORDINATE_KEY_SCALE) + "," + Math.round(longitude * COORDINATE_KEY_SCALE);
+    }
+}
@@ -0,0 +1,272 @@
+package com.loadmapguide_backend.domain.location.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loadmapguide_backend.domain.location.dto.BulkMiddlePointRequest;
+import com.loadmapguide_backend.domain.location.dto.BulkMiddlePointResult;
+import com.loadmapguide_backend.domain.location.dto.BulkMiddlePointSummary;
+import com.loadmapguide_backend.domain.location.entity.LocationPoint;
+import com.loadmapguide_backend.global.exception.BusinessException;
+import com.loadmapguide_backend.global.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * 대량 중간지점 계산 (야간 배치 연동용)
+ * 모임 정의를 NDJSON으로 한 줄씩 읽어 전용 스레드 풀에서 병렬로 계산하고, 결과는 완료 순서대로 전달한다.
+ * 배치 안의 모임들은 지오코딩/역지오코딩 결과를 공유하므로 같은 출발지/후보지점은 외부 API를 한 번만 호출한다.
+ */
+@Slf4j
+@Service
+public class BulkMiddlePointService {
+    
+    private final MiddlePointCalculator middlePointCalculator;
+    private final LocationCoordinateService coordinateService;
+    private final CandidateAddressResolver candidateAddressResolver;
+    private final ObjectMapper objectMapper;
+    private final Executor bulkMiddlePointExecutor;
+    private final int parallelism;
+    private final int maxGroups;
+    private final Counter succeededGroups;
+    private final Counter failedGroups;
+    
+    public BulkMiddlePointService(
+            MiddlePointCalculator middlePointCalculator,
+            LocationCoordinateService coordinateService,
+            CandidateAddressResolver candidateAddressResolver,
+            ObjectMapper objectMapper,
+            @Qualifier("bulkMiddlePointExecutor") Executor bulkMiddlePointExecutor,
+            @Value("${middle-point.bulk.parallelism:4}") int parallelism,
+            @Value("${middle-point.bulk.max-groups:10000}") int maxGroups,
+            MeterRegistry meterRegistry) {
+        this.middlePointCalculator = middlePointCalculator;
+        this.coordinateService = coordinateService;
+        this.candidateAddressResolver = candidateAddressResolver;
+        this.objectMapper = objectMapper;
+        this.bulkMiddlePointExecutor = bulkMiddlePointExecutor;
+        this.parallelism = parallelism;
+        this.maxGroups = maxGroups;
+        this.succeededGroups = Counter.builder("middle_point.bulk.groups")
+                .description("대량 중간지점 계산 처리 모임 수")
+                .tag("result", "success")
+                .register(meterRegistry);
+        this.failedGroups = Counter.builder("middle_point.bulk.groups")
+                .description("대량 중간지점 계산 처리 모임 수")
+                .tag("result", "failure")
+                .register(meterRegistry);
+    }
+    
+    /**
+     * 모임별 중간지점 병렬 계산
+     * 요청 본문은 한 번에 읽지 않고 작업자가 한 줄씩 가져가 계산하므로, 도착한 모임부터 계산이 시작되고 메모리에는 계산 중인 모임만 남는다.
+     * 모임 결과는 계산이 끝날 때마다 resultSink로 전달되며 (여러 스레드에서 호출됨),
+     * 반환된 future는 모든 모임이 끝나면 처리 요약으로 완료된다.
+     * 형식이 잘못된 줄과 모임 수 상한을 넘는 입력은 이미 응답이 시작된 뒤이므로 해당 위치에 실패 결과로 전달한다
+     *
+     * @throws BusinessException 대량 계산 스레드 풀이 포화되어 작업자를 모두 시작할 수 없는 경우 (배치 전체를 시작하지 않음)
+     */
+    public CompletableFuture<BulkMiddlePointSummary> calculateAll(
+            InputStream input,
+            Consumer<BulkMiddlePointResult> resultSink) {
+        
+        long startTime = System.currentTimeMillis();
+        log.info("대량 중간지점 계산 시작 - 병렬도: {}", parallelism);
+        
+        BulkGeocodeCache geocodeCache = new BulkGeocodeCache();
+        GroupReader reader = new GroupReader(input);
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        
+        // 병렬도만큼의 작업자가 입력이 끝날 때까지 모임을 한 줄씩 가져가 계산
+        // 작업자를 모두 시작한 뒤에 읽기 시작하므로, 일부만 시작된 배치는 모임을 하나도 계산하지 않고 취소된다
+        CountDownLatch started = new CountDownLatch(1);
+        List<CompletableFuture<Void>> workers = new ArrayList<>(parallelism);
+        try {
+            for (int w = 0; w < Math.max(1, parallelism); w++) {
+                workers.add(CompletableFuture.runAsync(() -> {
+                    awaitStart(started);
+                    drain(reader, geocodeCache, resultSink, succeeded, failed);
+                }, bulkMiddlePointExecutor));
+            }
+        } catch (RejectedExecutionException e) {
+            log.warn("대량 중간지점 계산 스레드 풀 포화, 배치 거부 - 시작된 작업자: {}/{}", workers.size(), parallelism);
+            reader.close();
+            started.countDown();
+            throw new BusinessException(ErrorCode.BULK_CALCULATION_BUSY);
+        }
+        started.countDown();
+        
+        return CompletableFuture.allOf(workers.toArray(new CompletableFuture[0]))
+                .whenComplete((ignored, error) -> reader.close())
+                .thenApply(ignored -> {
+                    long elapsedMs = System.currentTimeMillis() - startTime;
+                    int totalGroups = reader.getGroupCount();
+                    BulkMiddlePointSummary summary = BulkMiddlePointSummary.builder()
+                            .totalGroups(totalGroups)
+                            .succeeded(succeeded.get())
+                            .failed(failed.get())
+                            .elapsedMs(elapsedMs)
+                            .groupsPerSecond(totalGroups * 1000.0 / Math.max(elapsedMs, 1))
+                            .geocodeRequests(geocodeCache.getGeocodeRequests())
+                            .geocodeDeduplicated(geocodeCache.getGeocodeDeduplicated())
+                            .reverseGeocodeRequests(geocodeCache.getReverseGeocodeRequests())
+                            .reverseGeocodeDeduplicated(geocodeCache.getReverseGeocodeDeduplicated())
+                            .build();
+                    
+                    log.info("대량 중간지점 계산 완료 - 모임: {} (성공 {}, 실패 {}), 소요시간: {}ms, 처리량: {}건/초, " +
+                                    "지오코딩 중복 제거: {}/{}, 역지오코딩 중복 제거: {}/{}",
+                            summary.getTotalGroups(), summary.getSucceeded(), summary.getFailed(), elapsedMs,
+                            String.format("%.1f", summary.getGroupsPerSecond()),
+                            summary.getGeocodeDeduplicated(), summary.getGeocodeRequests(),
+                            summary.getReverseGeocodeDeduplicated(), summary.getReverseGeocodeRequests());
+                    return summary;
+                });
+    }
+    
+    private void awaitStart(CountDownLatch started) {
+        try {
+            started.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(e);
+        }
+    }
+    
+    private void drain(GroupReader reader, BulkGeocodeCache geocodeCache,
+                       Consumer<BulkMiddlePointResult> resultSink, AtomicInteger succeeded, AtomicInteger failed) {
+        GroupLine line;
+        while ((line = reader.next()) != null) {
+            BulkMiddlePointResult result = line.rejected() != null
+                    ? line.rejected()
+                    : calculateGroup(line.group(), geocodeCache);
+            if (result.isSuccess()) {
+                succeeded.incrementAndGet();
+                succeededGroups.increment();
+            } else {
+                failed.incrementAndGet();
+                failedGroups.increment();
+            }
+            
+            try {
+                resultSink.accept(result);
+            } catch (RuntimeException e) {
+                // 결과를 받을 곳이 없으면 남은 모임은 읽지 않음
+                log.warn("대량 중간지점 계산 결과 전송 실패, 남은 모임 중단: {}", e.getMessage());
+                reader.close();
+                return;
+            }
+        }
+    }
+    
+    private BulkMiddlePointResult calculateGroup(BulkMiddlePointRequest group, BulkGeocodeCache geocodeCache) {
+        if (group.getStartLocations() == null || group.getStartLocations().isEmpty()) {
+            return BulkMiddlePointResult.failure(group.getGroupId(), ErrorCode.INVALID_INPUT, "출발지 목록이 필요합니다");
+        }
+        
+        try {
+            List<LocationPoint> coordinates = geocodeCache.resolveCoordinates(
+                    group.getStartLocations(), coordinateService::resolveCoordinate);
+            
+            return BulkMiddlePointResult.success(group.getGroupId(), middlePointCalculator.calculateForCoordinates(
+                    coordinates, group.getTransportationType(),
+                    middlePointCalculator.resolveParticipantModes(group.getStartLocations(), group.getTransportationType()),
+                    group.getMidpointStrategy(),
+                    points -> geocodeCache.resolveAddresses(points, candidateAddressResolver::resolveAddresses)));
+            
+        } catch (BusinessException e) {
+            log.debug("대량 중간지점 계산 실패 - 모임: {}, 사유: {}", group.getGroupId(), e.getMessage());
+            return BulkMiddlePointResult.failure(group.getGroupId(), e.getErrorCode(), e.getMessage());
+        } catch (RuntimeException e) {
+            log.warn("대량 중간지점 계산 실패 - 모임: {}", group.getGroupId(), e);
+            return BulkMiddlePointResult.failure(group.getGroupId(), ErrorCode.LOCATION_CALCULATION_FAILED,
+                    ErrorCode.LOCATION_CALCULATION_FAILED.getMessage());
+        }
+    }
+    
+    /**
+     * 읽은 한 줄 (모임 정의 또는 읽기 단계에서 거부된 실패 결과)
+     */
+    private record GroupLine(BulkMiddlePointRequest group, BulkMiddlePointResult rejected) {
+    }
+    
+    /**
+     * NDJSON 모임 정의 순차 읽기 (빈 줄은 무시)
+     * 여러 작업자가 함께 읽으므로 한 줄씩 동기화하며, 닫힌 뒤에는 더 읽지 않는다
+     */
+    private final class GroupReader {
+        
+        private final BufferedReader reader;
+        private int lineNumber;
+        private int groupCount;
+        private boolean closed;
+        
+        private GroupReader(InputStream input) {
+            this.reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        }
+        
+        /**
+         * 다음 모임 (입력이 끝났거나 닫혔으면 null)
+         */
+        synchronized GroupLine next() {
+            if (closed) {
+                return null;
+            }
+            try {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    lineNumber++;
+                    if (line.isBlank()) {
+                        continue;
+                    }
+                    groupCount++;
+                    if (groupCount > maxGroups) {
+                        // 상한을 넘으면 한 번만 알리고 나머지 입력은 읽지 않음
+                        close();
+                        return new GroupLine(null, BulkMiddlePointResult.failure(null, ErrorCode.INVALID_INPUT,
+                                "한 번에 계산할 수 있는 모임 수를 초과했습니다: " + maxGroups));
+                    }
+                    try {
+                        return new GroupLine(objectMapper.readValue(line, BulkMiddlePointRequest.class), null);
+                    } catch (JsonProcessingException e) {
+                        return new GroupLine(null, BulkMiddlePointResult.failure(null, ErrorCode.INVALID_INPUT,
+                                lineNumber + "번째 줄의 형식이 올바르지 않습니다."));
+                    }
+                }
+            } catch (IOException e) {
+                log.warn("대량 중간지점 계산 입력 읽기 실패, 남은 모임 중단: {}", e.getMessage());
+            }
+            close();
+            return null;
+        }
+        
+        /**
+         * 읽은 모임 수 (형식 오류/상한 초과로 실패 처리한 줄 포함)
+         */
+        synchronized int getGroupCount() {
+            return groupCount;
+        }
+        
+        synchronized void close() {
+            closed = true;
+        }
+    }
+}
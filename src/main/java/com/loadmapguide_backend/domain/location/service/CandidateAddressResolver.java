@@ -0,0 +1,169 @@
+package com.loadmapguide_backend.domain.location.service;
+
+import com.loadmapguide_backend.domain.location.entity.LocationPoint;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 후보지점 주소 일괄 조회
+ * 모든 역지오코딩 요청을 한 번에 전송하고, 요청 전체 마감시간 안에 끝나지 않은 지점은 좌표 표시로 대체
+ * 동기/비동기 경로는 같은 허가(permit) 수를 공유하므로 카카오 역지오코딩 동시 호출은 합쳐서 max-concurrency를 넘지 않는다.
+ */
+@Slf4j
+@Service
+public class CandidateAddressResolver {
+
+    private final LocationCoordinateService coordinateService;
+    private final Executor reverseGeocodingExecutor;
+    private final long deadlineMillis;
+    private final Semaphore permits;
+
+    public CandidateAddressResolver(
+            LocationCoordinateService coordinateService,
+            @Qualifier("reverseGeocodingExecutor") Executor reverseGeocodingExecutor,
+            @Value("${middle-point.reverse-geocoding.deadline-ms:3000}") long deadlineMillis,
+            @Value("${middle-point.reverse-geocoding.max-concurrency:8}") int maxConcurrency) {
+        this.coordinateService = coordinateService;
+        this.reverseGeocodingExecutor = reverseGeocodingExecutor;
+        this.deadlineMillis = deadlineMillis;
+        this.permits = new Semaphore(maxConcurrency);
+    }
+
+    /**
+     * 후보지점들의 주소를 병렬로 조회
+     * 입력 지점에는 대체용 주소/장소명이 미리 채워져 있어야 하며, 조회에 실패하거나
+     * 마감시간을 넘긴 지점은 입력 그대로 반환된다. 결과 순서는 입력 순서와 같다.
+     */
+    public List<LocationPoint> resolveAddresses(List<LocationPoint> points) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(deadlineMillis);
+
+        // 1. 모든 역지오코딩 요청을 한 번에 전송
+        List<CompletableFuture<LocationPoint>> futures = new ArrayList<>(points.size());
+        for (LocationPoint point : points) {
+            futures.add(submitReverseGeocode(point, deadline));
+        }
+
+        // 2. 전체 마감시간까지 결과 수집
+        List<LocationPoint> resolved = new ArrayList<>(points.size());
+        int fallbackCount = 0;
+
+        for (int i = 0; i < points.size(); i++) {
+            LocationPoint fallback = points.get(i);
+            CompletableFuture<LocationPoint> future = futures.get(i);
+
+            LocationPoint result = awaitUntil(future, deadline);
+            if (result == null) {
+                future.cancel(true);
+                fallbackCount++;
+                resolved.add(fallback);
+            } else {
+                resolved.add(result);
+            }
+        }
+
+        log.debug("후보지점 역지오코딩 완료 - 전체: {}, 좌표 표시 대체: {}", points.size(), fallbackCount);
+        return resolved;
+    }
+
+    /**
+     * 후보지점들의 주소를 비동기로 조회
+     * 카카오 응답을 기다리는 스레드 없이 조합하며, 실패하거나 마감시간을 넘긴 지점은 입력 그대로 반환된다.
+     * 빈 허가가 없으면 기다리지 않고 바로 입력 지점(좌표 표시)을 사용한다.
+     */
+    public CompletableFuture<List<LocationPoint>> resolveAddressesAsync(List<LocationPoint> points) {
+        List<CompletableFuture<LocationPoint>> futures = new ArrayList<>(points.size());
+        int rejectedCount = 0;
+        for (LocationPoint point : points) {
+            if (!permits.tryAcquire()) {
+                rejectedCount++;
+                futures.add(CompletableFuture.completedFuture(point));
+                continue;
+            }
+
+            CompletableFuture<LocationPoint> call;
+            try {
+                call = coordinateService.reverseGeocodeAsync(point.getLatitude(), point.getLongitude());
+            } catch (RuntimeException e) {
+                call = CompletableFuture.failedFuture(e);
+            }
+            // 허가는 마감시간이 아니라 카카오 호출이 실제로 끝날 때 반납
+            call.whenComplete((result, e) -> permits.release());
+
+            futures.add(call
+                    .exceptionally(e -> {
+                        log.debug("역지오코딩 실패, 좌표 표시 사용: {}", e.getMessage());
+                        return null;
+                    })
+                    .completeOnTimeout(null, deadlineMillis, TimeUnit.MILLISECONDS)
+                    .thenApply(result -> result != null ? result : point));
+        }
+        if (rejectedCount > 0) {
+            log.warn("역지오코딩 동시 호출 상한 도달, 좌표 표시 사용: {}개", rejectedCount);
+        }
+
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                .thenApply(ignored -> {
+                    List<LocationPoint> resolved = new ArrayList<>(futures.size());
+                    futures.forEach(future -> resolved.add(future.join()));
+                    return resolved;
+                });
+    }
+
+    private CompletableFuture<LocationPoint> submitReverseGeocode(LocationPoint point, long deadline) {
+        try {
+            return CompletableFuture.supplyAsync(() -> reverseGeocodeWithPermit(point, deadline),
+                    reverseGeocodingExecutor);
+        } catch (RejectedExecutionException e) {
+            log.warn("역지오코딩 대기열 포화, 좌표 표시 사용: ({}, {})", point.getLatitude(), point.getLongitude());
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+
+    /**
+     * 허가를 받아 역지오코딩 (마감시간까지 허가를 얻지 못하면 null)
+     */
+    private LocationPoint reverseGeocodeWithPermit(LocationPoint point, long deadline) {
+        try {
+            long remaining = Math.max(0, deadline - System.nanoTime());
+            if (!permits.tryAcquire(remaining, TimeUnit.NANOSECONDS)) {
+                return null;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+
+        try {
+            return coordinateService.reverseGeocode(point.getLatitude(), point.getLongitude());
+        } finally {
+            permits.release();
+        }
+    }
+
+    private LocationPoint awaitUntil(CompletableFuture<LocationPoint> future, long deadline) {
+        try {
+            long remaining = Math.max(0, deadline - System.nanoTime());
+            return future.get(remaining, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException e) {
+            log.debug("역지오코딩 실패, 좌표 표시 사용: {}", e.getCause().getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.loadmapguide_backend.domain.location.service;
+
+import com.loadmapguide_backend.global.common.enums.MidpointStrategyType;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기하학적 중심점 (위경도 산술평균)
+ */
+@Component
+public class CentroidMidpointStrategy implements MidpointStrategy {
+    
+    @Override
+    public MidpointStrategyType getType() {
+        return MidpointStrategyType.CENTROID;
+    }
+    
+    @Override
+    public void calculate(double[] latitudes, double[] longitudes, int count, double[] result) {
+        double latSum = 0.0;
+        double lngSum = 0.0;
+        
+        for (int i = 0; i < count; i++) {
+            latSum += latitudes[i];
+            lngSum += longitudes[i];
+        }
+        
+        result[0] = latSum / count;
+        result[1] = lngSum / count;
+    }
+}
@@ -0,0 +1,189 @@
+package com.loadmapguide_backend.domain.location.service;
+
+import com.loadmapguide_backend.global.common.util.GeoUtils;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 상권 공간 인덱스
+ * 상권 데이터 파일을 시작 시 한 번 읽어 영향 반경(5km) 크기의 격자 버킷으로 나눠 둔다.
+ * 조회 시에는 해당 격자와 인접 8개 격자의 상권만 검사하며 객체를 할당하지 않는다.
+ */
+@Slf4j
+@Component
+public class CommercialAreaIndex {
+
+    private static final double INFLUENCE_RADIUS_METERS = 5000.0; // 5km에서 0점
+    private static final double MIN_METERS_PER_LAT_DEGREE = 110_574.0; // 적도 기준 (가장 짧음)
+    private static final double METERS_PER_LNG_DEGREE_AT_EQUATOR = 111_320.0;
+
+    private final ResourceLoader resourceLoader;
+    private final String dataLocation;
+
+    // 격자 순서로 정렬된 상권 좌표/가중치 (CSR 형식: cellStart[c] ~ cellStart[c+1])
+    private double[] latitudes = new double[0];
+    private double[] longitudes = new double[0];
+    private double[] weights = new double[0];
+    private int[] cellStart = new int[1];
+
+    private double minLat;
+    private double minLng;
+    private double cellLatDegrees = 1.0;
+    private double cellLngDegrees = 1.0;
+    private int rows;
+    private int cols;
+
+    public CommercialAreaIndex(
+            ResourceLoader resourceLoader,
+            @Value("${middle-point.commercial-areas.location:classpath:data/commercial-hotspots.csv}") String dataLocation) {
+        this.resourceLoader = resourceLoader;
+        this.dataLocation = dataLocation;
+    }
+
+    @PostConstruct
+    public void load() {
+        List<double[]> areas = readAreas();
+        if (areas.isEmpty()) {
+            log.warn("상권 데이터가 비어있습니다: {}", dataLocation);
+            return;
+        }
+        build(areas);
+        log.info("상권 인덱스 생성 완료 - 상권 {}개, 격자 {}x{}", areas.size(), rows, cols);
+    }
+
+    /**
+     * 가장 높은 상권 점수 조회
+     * 영향 반경 내 상권들의 (가중치 × 거리 감쇠) 최대값, 반경 내 상권이 없으면 0
+     */
+    public double maxWeightedScore(double latitude, double longitude) {
+        if (rows == 0) {
+            return 0.0;
+        }
+
+        int row = (int) Math.floor((latitude - minLat) / cellLatDegrees);
+        int col = (int) Math.floor((longitude - minLng) / cellLngDegrees);
+
+        // 데이터 영역에서 한 격자 이상 벗어나면 반경 내 상권이 없음
+        if (row < -1 || row > rows || col < -1 || col > cols) {
+            return 0.0;
+        }
+
+        double maxScore = 0.0;
+        for (int r = Math.max(0, row - 1); r <= Math.min(rows - 1, row + 1); r++) {
+            for (int c = Math.max(0, col - 1); c <= Math.min(cols - 1, col + 1); c++) {
+                int cell = r * cols + c;
+                for (int i = cellStart[cell]; i < cellStart[cell + 1]; i++) {
+                    double distance = GeoUtils.haversineMeters(latitude, longitude, latitudes[i], longitudes[i]);
+
+                    // 거리별 점수 감소 (5km에서 0점)
+                    double distanceScore = Math.max(0, 1 - (distance / INFLUENCE_RADIUS_METERS));
+                    maxScore = Math.max(maxScore, weights[i] * distanceScore);
+                }
+            }
+        }
+
+        return maxScore;
+    }
+
+    public int size() {
+        return weights.length;
+    }
+
+    private List<double[]> readAreas() {
+        Resource resource = resourceLoader.getResource(dataLocation);
+        List<double[]> areas = new ArrayList<>();
+
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+
+                // name,latitude,longitude,weight
+                String[] fields = line.split(",");
+                if (fields.length < 4) {
+                    log.warn("상권 데이터 형식 오류, 건너뜀: {}", line);
+                    continue;
+                }
+
+                try {
+                    areas.add(new double[]{
+                            Double.parseDouble(fields[1].trim()),
+                            Double.parseDouble(fields[2].trim()),
+                            Double.parseDouble(fields[3].trim())
+                    });
+                } catch (NumberFormatException e) {
+                    log.warn("상권 데이터 숫자 변환 실패, 건너뜀: {}", line);
+                }
+            }
+
+        } catch (IOException e) {
+            log.error("상권 데이터 로딩 실패: {}", dataLocation, e);
+        }
+
+        return areas;
+    }
+
+    private void build(List<double[]> areas) {
+        double maxLat = Double.NEGATIVE_INFINITY;
+        double maxLng = Double.NEGATIVE_INFINITY;
+        minLat = Double.POSITIVE_INFINITY;
+        minLng = Double.POSITIVE_INFINITY;
+
+        for (double[] area : areas) {
+            minLat = Math.min(minLat, area[0]);
+            maxLat = Math.max(maxLat, area[0]);
+            minLng = Math.min(minLng, area[1]);
+            maxLng = Math.max(maxLng, area[1]);
+        }
+
+        // 격자 한 칸이 어느 위도에서든 영향 반경 이상이 되도록 설정 (인접 격자만 보면 충분)
+        double maxAbsLat = Math.max(Math.abs(minLat), Math.abs(maxLat));
+        cellLatDegrees = INFLUENCE_RADIUS_METERS / MIN_METERS_PER_LAT_DEGREE;
+        cellLngDegrees = INFLUENCE_RADIUS_METERS
+                / (METERS_PER_LNG_DEGREE_AT_EQUATOR * Math.cos(Math.toRadians(maxAbsLat)));
+        rows = (int) Math.floor((maxLat - minLat) / cellLatDegrees) + 1;
+        cols = (int) Math.floor((maxLng - minLng) / cellLngDegrees) + 1;
+
+        // 격자별 개수 집계 후 누적합으로 시작 위치 계산
+        int[] cellOf = new int[areas.size()];
+        cellStart = new int[rows * cols + 1];
+        for (int i = 0; i < areas.size(); i++) {
+            double[] area = areas.get(i);
+            int row = (int) Math.floor((area[0] - minLat) / cellLatDegrees);
+            int col = (int) Math.floor((area[1] - minLng) / cellLngDegrees);
+            cellOf[i] = row * cols + col;
+            cellStart[cellOf[i] + 1]++;
+        }
+        for (int c = 0; c < rows * cols; c++) {
+            cellStart[c + 1] += cellStart[c];
+        }
+
+        latitudes = new double[areas.size()];
+        longitudes = new double[areas.size()];
+        weights = new double[areas.size()];
+        int[] next = cellStart.clone();
+        for (int i = 0; i < areas.size(); i++) {
+            int slot = next[cellOf[i]]++;
+            double[] area = areas.get(i);
+            latitudes[slot] = area[0];
+            longitudes[slot] = area[1];
+            weights[slot] = area[2];
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.loadmapguide_backend.domain.location.service;
+
+import com.loadmapguide_backend.global.common.enums.MidpointStrategyType;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기하 중앙값 (Weiszfeld 알고리즘)
+ * 참여자들의 총 이동거리 합이 최소가 되는 지점. 산술평균에서 시작해 거리 역수 가중평균을 반복한다.
+ */
+@Component
+public class GeometricMedianMidpointStrategy implements MidpointStrategy {
+    
+    private static final int MAX_ITERATIONS = 100;
+    private static final double CONVERGENCE_DEGREES = 1e-7; // 약 1cm
+    private static final double COINCIDENT_DEGREES = 1e-12;
+    
+    @Override
+    public MidpointStrategyType getType() {
+        return MidpointStrategyType.GEOMETRIC_MEDIAN;
+    }
+    
+    @Override
+    public void calculate(double[] latitudes, double[] longitudes, int count, double[] result) {
+        double scale = MidpointStrategy.longitudeScale(latitudes, count);
+        
+        // 산술평균에서 시작
+        double lat = 0.0;
+        double lng = 0.0;
+        for (int i = 0; i < count; i++) {
+            lat += latitudes[i];
+            lng += longitudes[i];
+        }
+        lat /= count;
+        lng /= count;
+        
+        for (int iteration = 0; iteration < MAX_ITERATIONS; iteration++) {
+            double weightSum = 0.0;
+            double latSum = 0.0;
+            double lngSum = 0.0;
+            
+            for (int i = 0; i < count; i++) {
+                double dLat = latitudes[i] - lat;
+                double dLng = (longitudes[i] - lng) * scale;
+                double distance = Math.sqrt(dLat * dLat + dLng * dLng);
+                
+                // 현재 추정점이 참여자 위치와 겹치면 해당 항은 제외 (0으로 나누기 방지)
+                if (distance < COINCIDENT_DEGREES) {
+                    continue;
+                }
+                
+                double weight = 1.0 / distance;
+                weightSum += weight;
+                latSum += latitudes[i] * weight;
+                lngSum += longitudes[i] * weight;
+            }
+            
+            if (weightSum == 0.0) {
+                break;
+            }
+            
+            double nextLat = latSum / weightSum;
+            double nextLng = lngSum / weightSum;
+            boolean converged = Math.abs(nextLat - lat) + Math.abs(nextLng - lng) * scale < CONVERGENCE_DEGREES;
+            
+            lat = nextLat;
+            lng = nextLng;
+            
+            if (converged) {
+                break;
+            }
+        }
+        
+        result[0] = lat;
+        result[1] = lng;
+    }
+}
@@ -0,0 +1,137 @@
+package com.loadmapguide_backend.domain.location.service;
+
+import com.loadmapguide_backend.global.common.enums.TransportationType;
+import com.loadmapguide_backend.global.common.util.GeoUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 이동시간 격자 생성 작업
+ * middle-point.isochrone-grid.rebuild=true로 실행하면 시작 시 RouteCalculationService 추정으로
+ * 격자 중심 간 교통수단별 이동시간을 계산해 파일로 쓰고, 완료 후 격자를 다시 매핑한다.
+ * 임시 파일에 쓴 뒤 교체하므로 기존 격자를 매핑 중인 프로세스에 영향을 주지 않는다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "middle-point.isochrone-grid", name = "rebuild", havingValue = "true")
+public class IsochroneGridBuilder implements ApplicationRunner {
+    
+    private static final int MAX_TENTHS = 0xFFFF;
+    
+    private final RouteCalculationService routeCalculationService;
+    private final IsochroneGridTravelTimeMatrixProvider gridProvider;
+    private final double minLat;
+    private final double maxLat;
+    private final double minLng;
+    private final double maxLng;
+    private final double cellDegrees;
+    
+    public IsochroneGridBuilder(
+            RouteCalculationService routeCalculationService,
+            IsochroneGridTravelTimeMatrixProvider gridProvider,
+            @Value("${middle-point.isochrone-grid.min-lat:37.40}") double minLat,
+            @Value("${middle-point.isochrone-grid.max-lat:37.72}") double maxLat,
+            @Value("${middle-point.isochrone-grid.min-lng:126.76}") double minLng,
+            @Value("${middle-point.isochrone-grid.max-lng:127.20}") double maxLng,
+            @Value("${middle-point.isochrone-grid.cell-degrees:0.01}") double cellDegrees) {
+        this.routeCalculationService = routeCalculationService;
+        this.gridProvider = gridProvider;
+        this.minLat = minLat;
+        this.maxLat = maxLat;
+        this.minLng = minLng;
+        this.maxLng = maxLng;
+        this.cellDegrees = cellDegrees;
+    }
+    
+    @Override
+    public void run(ApplicationArguments args) {
+        long startTime = System.currentTimeMillis();
+        build(gridProvider.getGridLocation());
+        gridProvider.reload();
+        log.info("이동시간 격자 생성 완료 - 소요시간: {}ms", System.currentTimeMillis() - startTime);
+    }
+    
+    /**
+     * 격자 파일 생성
+     */
+    public void build(Path output) {
+        int rows = (int) Math.ceil((maxLat - minLat) / cellDegrees);
+        int cols = (int) Math.ceil((maxLng - minLng) / cellDegrees);
+        int cellCount = rows * cols;
+        TransportationType[] modes = TransportationType.values();
+        
+        // 격자 중심 좌표 (라디안 위도/코사인 미리 계산)
+        double[] centerLats = new double[cellCount];
+        double[] centerLngs = new double[cellCount];
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                centerLats[r * cols + c] = minLat + (r + 0.5) * cellDegrees;
+                centerLngs[r * cols + c] = minLng + (c + 0.5) * cellDegrees;
+            }
+        }
+        double[] latsRad = new double[cellCount];
+        double[] cosLats = new double[cellCount];
+        GeoUtils.precompute(centerLats, cellCount, latsRad, cosLats);
+        
+        log.info("이동시간 격자 생성 시작 - 격자 {}x{}, 교통수단 {}개, 출력: {}", rows, cols, modes.length, output);
+        
+        try {
+            Path parent = output.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path temp = Files.createTempFile(parent, "isochrone-grid", ".tmp");
+            
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                ByteBuffer header = ByteBuffer.allocate(IsochroneGridTravelTimeMatrixProvider.HEADER_BYTES);
+                header.putInt(IsochroneGridTravelTimeMatrixProvider.MAGIC)
+                        .putInt(IsochroneGridTravelTimeMatrixProvider.VERSION)
+                        .putDouble(minLat).putDouble(minLng).putDouble(cellDegrees).putDouble(cellDegrees)
+                        .putInt(rows).putInt(cols).putInt(modes.length);
+                header.position(0);
+                writeFully(channel, header);
+                
+                double[] distances = new double[cellCount];
+                ByteBuffer row = ByteBuffer.allocate(cellCount * 2);
+                for (TransportationType mode : modes) {
+                    for (int origin = 0; origin < cellCount; origin++) {
+                        GeoUtils.haversineMetersBatch(centerLats[origin], centerLngs[origin],
+                                latsRad, cosLats, centerLngs, cellCount, distances);
+                        
+                        row.clear();
+                        for (int destination = 0; destination < cellCount; destination++) {
+                            int minutes = routeCalculationService.estimateTravelTimeMinutes(distances[destination], mode);
+                            row.putShort((short) Math.min(MAX_TENTHS,
+                                    Math.round(minutes * IsochroneGridTravelTimeMatrixProvider.TENTHS_PER_MINUTE)));
+                        }
+                        row.flip();
+                        writeFully(channel, row);
+                    }
+                    log.debug("이동시간 격자 생성 - 교통수단 완료: {}", mode);
+                }
+            }
+            
+            Files.move(temp, output, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            
+        } catch (IOException e) {
+            throw new UncheckedIOException("이동시간 격자 생성 실패: " + output, e);
+        }
+    }
+    
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.loadmapguide_backend.domain.location.service;
+
+import com.loadmapguide_backend.global.common.enums.TransportationType;
+import com.loadmapguide_backend.global.common.enums.TravelTimeSource;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 사전 계산 격자 기반 이동시간 행렬
+ * 수도권을 위경도 격자로 나눠 교통수단별 격자 간 이동시간을 오프라인으로 계산해 둔 파일을 메모리 매핑해 조회한다.
+ * 파일 내용은 힙으로 복사하지 않으며, 참여자-후보지점 쌍마다 표 조회 한 번으로 이동시간을 구한다.
+ * 격자 밖이거나 같은 격자 안의 쌍, 격자 파일이 없거나 읽을 수 없는 경우는 직선거리 추정을 사용한다.
+ * 이동시간이 격자 단위로만 달라지므로 격자 간격보다 촘촘한 탐색은 의미가 없다 ({@link #resolutionDegrees()}).
+ *
+ * <pre>
+ * 파일 형식 (big-endian)
+ *   int    magic ("ISOG"), int version
+ *   double minLat, minLng, cellLatDegrees, cellLngDegrees
+ *   int    rows, cols, modeCount
+ *   (HEADER_BYTES부터) 교통수단(ordinal) × 출발 격자 × 도착 격자 순서의 unsigned short (0.1분 단위)
+ * </pre>
+ */
+@Slf4j
+@Component
+public class IsochroneGridTravelTimeMatrixProvider implements TravelTimeMatrixProvider {
+    
+    static final int MAGIC = 0x49534F47; // "ISOG"
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 64;
+    static final double TENTHS_PER_MINUTE = 10.0;
+    
+    private final StraightLineTravelTimeMatrixProvider straightLineProvider;
+    private final Path gridLocation;
+    
+    private volatile Grid grid;
+    
+    public IsochroneGridTravelTimeMatrixProvider(
+            StraightLineTravelTimeMatrixProvider straightLineProvider,
+            @Value("${middle-point.isochrone-grid.location:./data/isochrone-grid.bin}") String gridLocation) {
+        this.straightLineProvider = straightLineProvider;
+        this.gridLocation = Path.of(gridLocation);
+    }
+    
+    @PostConstruct
+    public void load() {
+        if (!Files.exists(gridLocation)) {
+            log.warn("이동시간 격자 파일이 없습니다, 직선거리 추정으로 대체: {}", gridLocation);
+            return;
+        }
+        reload();
+    }
+    
+    /**
+     * 격자 파일 다시 매핑 (격자 재생성 후 호출)
+     */
+    public void reload() {
+        try (FileChannel channel = FileChannel.open(gridLocation, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            
+            if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+                log.error("이동시간 격자 파일 형식 오류: {}", gridLocation);
+                return;
+            }
+            
+            Grid loaded = new Grid(buffer,
+                    buffer.getDouble(8), buffer.getDouble(16), buffer.getDouble(24), buffer.getDouble(32),
+                    buffer.getInt(40), buffer.getInt(44), buffer.getInt(48));
+            long expectedBytes = HEADER_BYTES + 2L * loaded.modeCount() * loaded.cellCount() * loaded.cellCount();
+            if (channel.size() < expectedBytes) {
+                log.error("이동시간 격자 파일 크기 오류 - 예상: {}, 실제: {}", expectedBytes, channel.size());
+                return;
+            }
+            
+            this.grid = loaded;
+            log.info("이동시간 격자 로딩 완료 - 격자 {}x{}, 교통수단 {}개, {}MB",
+                    loaded.rows(), loaded.cols(), loaded.modeCount(), channel.size() / (1024 * 1024));
+            
+        } catch (IOException | RuntimeException e) {
+            // 2GB 초과 파일 매핑, 헤더 값 오류 등 (시작을 막지 않고 기존 격자 또는 직선거리 추정 유지)
+            log.error("이동시간 격자 로딩 실패, {}: {}", grid != null ? "기존 격자 유지" : "직선거리 추정으로 대체",
+                    gridLocation, e);
+        }
+    }
+    
+    public boolean isLoaded() {
+        return grid != null;
+    }
+    
+    public Path getGridLocation() {
+        return gridLocation;
+    }
+    
+    @Override
+    public TravelTimeSource getSource() {
+        return TravelTimeSource.ISOCHRONE_GRID;
+    }
+    
+    /**
+     * 격자 간격 (격자 미적재 시 직선거리 추정이므로 0)
+     */
+    @Override
+    public double resolutionDegrees() {
+        Grid current = this.grid;
+        return current != null ? Math.max(current.cellLatDegrees(), current.cellLngDegrees()) : 0.0;
+    }
+    
+    @Override
+    public TravelTimeMatrix compute(double[] originLatitudes, double[] originLongitudes, int originCount,
+                                    double[] destinationLatitudes, double[] destinationLongitudes, int destinationCount,
+                                    TransportationType transportationType) {
+        
+        Grid current = this.grid;
+        if (current == null || transportationType.ordinal() >= current.modeCount()) {
+            return straightLineProvider.compute(originLatitudes, originLongitudes, originCount,
+                    destinationLatitudes, destinationLongitudes, destinationCount, transportationType);
+        }
+        
+        int[] originCells = new int[originCount];
+        for (int o = 0; o < originCount; o++) {
+            originCells[o] = current.cellOf(originLatitudes[o], originLongitudes[o]);
+        }
+        
+        long modeOffset = (long) transportationType.ordinal() * current.cellCount() * current.cellCount();
+        TravelTimeMatrix matrix = new TravelTimeMatrix(originCount, destinationCount);
+        
+        for (int d = 0; d < destinationCount; d++) {
+            int destinationCell = current.cellOf(destinationLatitudes[d], destinationLongitudes[d]);
+            
+            for (int o = 0; o < originCount; o++) {
+                int originCell = originCells[o];
+                double minutes;
+                if (originCell < 0 || destinationCell < 0 || originCell == destinationCell) {
+                    minutes = straightLineProvider.estimateMinutes(originLatitudes[o], originLongitudes[o],
+                            destinationLatitudes[d], destinationLongitudes[d], transportationType);
+                } else {
+                    long index = modeOffset + (long) originCell * current.cellCount() + destinationCell;
+                    minutes = current.read(index) / TENTHS_PER_MINUTE;
+                }
+                matrix.set(o, d, minutes);
+            }
+        }
+        
+        return matrix;
+    }
+    
+    /**
+     * 매핑된 격자 (헤더 값은 조회마다 버퍼에서 읽지 않도록 필드로 보관)
+     */
+    private record Grid(MappedByteBuffer buffer, double minLat, double minLng,
+                        double cellLatDegrees, double cellLngDegrees, int rows, int cols, int modeCount) {
+        
+        int cellCount() {
+            return rows * cols;
+        }
+        
+        int cellOf(double latitude, double longitude) {
+            int row = (int) Math.floor((latitude - minLat) / cellLatDegrees);
+            int col = (int) Math.floor((longitude - minLng) / cellLngDegrees);
+            if (row < 0 || row >= rows || col < 0 || col >= cols) {
+                return -1;
+            }
+            return row * cols + col;
+        }
+        
+        int read(long index) {
+            return Short.toUnsignedInt(buffer.getShort(Math.toIntExact(HEADER_BYTES + index * 2)));
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.loadmapguide_backend.domain.location.service;
+
+import com.loadmapguide_backend.global.common.enums.TransportationType;
+import com.loadmapguide_backend.global.common.enums.TravelTimeSource;
+import com.loadmapguide_backend.global.external.kakao.KakaoMapApiClient;
+import com.loadmapguide_backend.global.external.kakao.dto.KakaoDirectionResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 카카오 길찾기 기반 이동시간 행렬 (자동차)
+ * 고유한 출발지-목적지 쌍을 배치 단위로 병렬 조회한다. 한 쌍이라도 실패하거나 마감시간을 넘기면
+ * 실경로와 추정값이 섞여 후보지점 간 점수 비교가 어긋나므로 행렬 전체를 직선거리 추정값으로 돌려준다.
+ * 카카오는 자동차 경로만 제공하므로 그 외 교통수단은 직선거리 추정으로 계산한다.
+ * 후보지점 탐색 반복은 직선거리 추정({@link #searchProvider()})으로 점수화하고, 최종 후보지점만 이 계산 방식으로 다시 계산한다.
+ * 조회 쌍 수 상한과 마감시간은 요청 단위 예산({@link TravelTimeBudget})으로 적용된다.
+ */
+@Slf4j
+@Component
+public class KakaoDirectionsTravelTimeMatrixProvider extends PairwiseTravelTimeMatrixProvider {
+    
+    private final KakaoMapApiClient kakaoMapApiClient;
+    private final StraightLineTravelTimeMatrixProvider straightLineProvider;
+    private final Executor travelTimeMatrixExecutor;
+    private final int batchSize;
+    private final int maxPairs;
+    private final long deadlineMillis;
+    
+    public KakaoDirectionsTravelTimeMatrixProvider(
+            KakaoMapApiClient kakaoMapApiClient,
+            StraightLineTravelTimeMatrixProvider straightLineProvider,
+            @Qualifier("travelTimeMatrixExecutor") Executor travelTimeMatrixExecutor,
+            @Value("${middle-point.travel-time.kakao.batch-size:16}") int batchSize,
+            @Value("${middle-point.travel-time.kakao.max-pairs:200}") int maxPairs,
+            @Value("${middle-point.travel-time.kakao.deadline-ms:5000}") long deadlineMillis) {
+        this.kakaoMapApiClient = kakaoMapApiClient;
+        this.straightLineProvider = straightLineProvider;
+        this.travelTimeMatrixExecutor = travelTimeMatrixExecutor;
+        this.batchSize = Math.max(1, batchSize);
+        this.maxPairs = maxPairs;
+        this.deadlineMillis = deadlineMillis;
+    }
+    
+    @Override
+    public TravelTimeSource getSource() {
+        return TravelTimeSource.KAKAO_DIRECTIONS;
+    }
+    
+    @Override
+    public TravelTimeMatrixProvider searchProvider() {
+        return straightLineProvider;
+    }
+    
+    @Override
+    public TravelTimeBudget newBudget() {
+        return TravelTimeBudget.of(maxPairs, deadlineMillis);
+    }
+    
+    @Override
+    protected TravelTimeMatrix computeUnique(double[] originLatitudes, double[] originLongitudes, int originCount,
+                                             double[] destinationLatitudes, double[] destinationLongitudes, int destinationCount,
+                                             TransportationType transportationType, TravelTimeBudget budget) {
+        
+        // 조회가 모두 성공하지 못하면 직선거리 추정값을 그대로 사용
+        TravelTimeMatrix matrix = straightLineProvider.compute(
+                originLatitudes, originLongitudes, originCount,
+                destinationLatitudes, destinationLongitudes, destinationCount,
+                transportationType);
+        
+        if (transportationType != TransportationType.CAR) {
+            return matrix;
+        }
+        
+        int pairCount = originCount * destinationCount;
+        if (budget.isExpired()) {
+            log.debug("길찾기 조회 마감시간 경과, 직선거리 추정 사용 - 요청: {}", pairCount);
+            return matrix;
+        }
+        if (!budget.tryReserve(pairCount)) {
+            log.warn("길찾기 요청당 조회 상한 초과, 직선거리 추정 사용 - 요청: {}, 남은 예산: {}, 상한: {}",
+                    pairCount, budget.getRemainingPairs(), maxPairs);
+            return matrix;
+        }
+        
+        long deadline = System.nanoTime()
+                + Math.max(0, Math.min(budget.remainingNanos(), TimeUnit.MILLISECONDS.toNanos(deadlineMillis)));
+        TravelTimeMatrix resolved = new TravelTimeMatrix(originCount, destinationCount);
+        int resolvedCount = 0;
+        
+        for (int start = 0; start < pairCount; start += batchSize) {
+            int end = Math.min(pairCount, start + batchSize);
+            
+            // 1. 배치 단위로 전송
+            List<CompletableFuture<Double>> futures = new ArrayList<>(end - start);
+            for (int pair = start; pair < end; pair++) {
+                int o = pair % originCount;
+                int d = pair / originCount;
+                futures.add(submitRoute(originLatitudes[o], originLongitudes[o],
+                        destinationLatitudes[d], destinationLongitudes[d]));
+            }
+            
+            // 2. 마감시간까지 결과 수집 (한 쌍이라도 실패하면 남은 조회 취소)
+            boolean failed = false;
+            for (int pair = start; pair < end; pair++) {
+                CompletableFuture<Double> future = futures.get(pair - start);
+                Double minutes = failed ? null : awaitUntil(future, deadline);
+                if (minutes == null) {
+                    future.cancel(true);
+                    failed = true;
+                } else {
+                    resolved.set(pair % originCount, pair / originCount, minutes);
+                    resolvedCount++;
+                }
+            }
+            
+            if (failed) {
+                log.warn("길찾기 조회 실패 또는 마감시간 초과, 행렬 전체 직선거리 추정 사용 - 조회: {}/{}",
+                        resolvedCount, pairCount);
+                return matrix;
+            }
+        }
+        
+        log.debug("길찾기 이동시간 행렬 계산 완료 - 출발지: {}, 목적지: {}, 실경로: {}",
+                originCount, destinationCount, pairCount);
+        return resolved;
+    }
+    
+    private CompletableFuture<Double> submitRoute(double originLat, double originLng, double destLat, double destLng) {
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                KakaoDirectionResponse response = kakaoMapApiClient.getCarRoute(
+                        originLng, originLat, destLng, destLat, "RECOMMEND");
+                return response != null && response.isSuccess()
+                        ? response.getTotalDuration() / 60.0
+                        : null;
+            }, travelTimeMatrixExecutor);
+        } catch (RejectedExecutionException e) {
+            log.debug("길찾기 대기열 포화, 직선거리 추정 사용");
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+    
+    private Double awaitUntil(CompletableFuture<Double> future, long deadline) {
+        try {
+            long remaining = Math.max(0, deadline - System.nanoTime());
+            return future.get(remaining, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException e) {
+            log.debug("길찾기 조회 실패, 직선거리 추정 사용: {}", e.getCause().getMessage());
+            return null;
+        }
+    }
+}
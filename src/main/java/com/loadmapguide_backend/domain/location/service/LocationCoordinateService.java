@@ -13,6 +13,8 @@ import org.springframework.stereotype.Service;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -32,6 +34,23 @@ public class LocationCoordinateService {
                 .collect(Collectors.toList());
     }
     
+    /**
+     * 주소 목록을 좌표가 포함된 LocationPoint 목록으로 변환 (비동기)
+     * 주소별 변환(DB 조회, 지오코딩)을 지정된 스레드 풀에서 병렬로 수행하며 결과 순서는 입력 순서와 같다
+     */
+    public CompletableFuture<List<LocationPoint>> resolveCoordinatesAsync(
+            List<LocationRequest> locationRequests, Executor executor) {
+        
+        List<CompletableFuture<LocationPoint>> futures = locationRequests.stream()
+                .map(request -> CompletableFuture.supplyAsync(() -> resolveCoordinate(request), executor))
+                .collect(Collectors.toList());
+        
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                .thenApply(ignored -> futures.stream()
+                        .map(CompletableFuture::join)
+                        .collect(Collectors.toList()));
+    }
+    
     /**
      * 단일 주소를 좌표가 포함된 LocationPoint로 변환
      */
@@ -219,37 +238,7 @@ public class LocationCoordinateService {
             
             // 카카오맵 API 호출
             KakaoCoordinateResponse response = kakaoMapApiClient.getAddressByCoordinate(longitude, latitude);
-            
-            // 응답 검증
-            if (response == null || response.getDocuments() == null || response.getDocuments().isEmpty()) {
-                log.warn("카카오맵 API에서 주소를 찾을 수 없음: ({}, {})", latitude, longitude);
-                throw new BusinessException(ErrorCode.LOCATION_NOT_FOUND);
-            }
-            
-            // 첫 번째 결과 사용
-            KakaoCoordinateResponse.Document document = response.getDocuments().get(0);
-            
-            // 주소 정보 추출 (도로명 주소 우선, 없으면 지번 주소)
-            String addressName = null;
-            if (document.getRoadAddress() != null && document.getRoadAddress().getAddressName() != null) {
-                addressName = document.getRoadAddress().getAddressName();
-            } else if (document.getAddress() != null && document.getAddress().getAddressName() != null) {
-                addressName = document.getAddress().getAddressName();
-            } else if (document.getAddressName() != null) {
-                addressName = document.getAddressName();
-            }
-            
-            if (addressName == null) {
-                log.warn("역지오코딩 결과에서 주소를 찾을 수 없음: ({}, {})", latitude, longitude);
-                throw new BusinessException(ErrorCode.LOCATION_NOT_FOUND);
-            }
-            
-            LocationPoint result = LocationPoint.builder()
-                    .latitude(latitude)
-                    .longitude(longitude)
-                    .address(addressName)
-                    .placeName(addressName) // 역지오코딩에서는 장소명이 주소와 동일
-                    .build();
+            LocationPoint result = toReverseGeocodedPoint(response, latitude, longitude);
                     
             log.info("역지오코딩 성공: ({}, {}) -> {}", 
                     latitude, longitude, result.getAddress());
@@ -264,6 +253,55 @@ public class LocationCoordinateService {
         }
     }
     
+    /**
+     * 좌표를 주소로 변환 (역지오코딩, 비동기)
+     * 카카오 API 응답을 기다리는 동안 스레드를 점유하지 않는다
+     */
+    public CompletableFuture<LocationPoint> reverseGeocodeAsync(Double latitude, Double longitude) {
+        if (!isValidCoordinates(latitude, longitude)) {
+            return CompletableFuture.failedFuture(new BusinessException(ErrorCode.INVALID_LOCATION));
+        }
+        
+        return kakaoMapApiClient.getAddressByCoordinateAsync(longitude, latitude)
+                .map(response -> toReverseGeocodedPoint(response, latitude, longitude))
+                .toFuture();
+    }
+    
+    /**
+     * 역지오코딩 응답을 LocationPoint로 변환 (도로명 주소 우선, 없으면 지번 주소)
+     */
+    private LocationPoint toReverseGeocodedPoint(KakaoCoordinateResponse response, Double latitude, Double longitude) {
+        // 응답 검증
+        if (response == null || response.getDocuments() == null || response.getDocuments().isEmpty()) {
+            log.warn("카카오맵 API에서 주소를 찾을 수 없음: ({}, {})", latitude, longitude);
+            throw new BusinessException(ErrorCode.LOCATION_NOT_FOUND);
+        }
+        
+        // 첫 번째 결과 사용
+        KakaoCoordinateResponse.Document document = response.getDocuments().get(0);
+        
+        String addressName = null;
+        if (document.getRoadAddress() != null && document.getRoadAddress().getAddressName() != null) {
+            addressName = document.getRoadAddress().getAddressName();
+        } else if (document.getAddress() != null && document.getAddress().getAddressName() != null) {
+            addressName = document.getAddress().getAddressName();
+        } else if (document.getAddressName() != null) {
+            addressName = document.getAddressName();
+        }
+        
+        if (addressName == null) {
+            log.warn("역지오코딩 결과에서 주소를 찾을 수 없음: ({}, {})", latitude, longitude);
+            throw new BusinessException(ErrorCode.LOCATION_NOT_FOUND);
+        }
+        
+        return LocationPoint.builder()
+                .latitude(latitude)
+                .longitude(longitude)
+                .address(addressName)
+                .placeName(addressName) // 역지오코딩에서는 장소명이 주소와 동일
+                .build();
+    }
+    
     /**
      * 좌표 유효성 검증
      */
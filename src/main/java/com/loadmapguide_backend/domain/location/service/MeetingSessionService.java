@@ -0,0 +1,163 @@
+package com.loadmapguide_backend.domain.location.service;
+
+import com.loadmapguide_backend.domain.location.dto.LocationRequest;
+import com.loadmapguide_backend.domain.location.dto.MeetingSessionRequest;
+import com.loadmapguide_backend.domain.location.dto.MeetingSessionResponse;
+import com.loadmapguide_backend.domain.location.dto.MiddlePointResponse;
+import com.loadmapguide_backend.domain.location.entity.CandidateMatrix;
+import com.loadmapguide_backend.domain.location.entity.LocationPoint;
+import com.loadmapguide_backend.domain.location.entity.MeetingSession;
+import com.loadmapguide_backend.domain.location.repository.MeetingSessionRepository;
+import com.loadmapguide_backend.global.exception.BusinessException;
+import com.loadmapguide_backend.global.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 모임 세션 관리
+ * 세션 생성 시 후보지점과 참여자별 이동시간 행렬을 저장해 두고,
+ * 참여자 추가/이동/삭제 시에는 바뀐 참여자의 행만 다시 계산한 뒤 저장된 행렬로 순위를 재계산한다.
+ * 같은 세션을 동시에 변경하면 버전(낙관적 잠금)이 먼저 커밋된 변경과 어긋난 요청을 SESSION_CONFLICT로 거절한다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class MeetingSessionService {
+    
+    private final MeetingSessionRepository meetingSessionRepository;
+    private final LocationCoordinateService coordinateService;
+    private final MiddlePointCalculator middlePointCalculator;
+    
+    /**
+     * 세션 생성 (후보지점 전체 탐색)
+     */
+    @Transactional
+    public MeetingSessionResponse createSession(MeetingSessionRequest request) {
+        List<LocationPoint> coordinates = coordinateService.resolveCoordinates(request.getStartLocations());
+        CandidateMatrix candidateMatrix = middlePointCalculator.buildCandidateMatrix(
+                coordinates, request.getTransportationType(), request.getMidpointStrategy());
+        
+        MeetingSession session = MeetingSession.builder()
+                .sessionName(request.getSessionName())
+                .participantCount(coordinates.size())
+                .startLocations(coordinates)
+                .transportationType(request.getTransportationType())
+                .build();
+        session.initializeCandidates(candidateMatrix);
+        
+        MiddlePointResponse result = recalculate(session);
+        meetingSessionRepository.save(session);
+        
+        log.info("세션 생성 완료 - 세션: {}, 참여자: {}, 후보지점: {}", 
+                session.getId(), coordinates.size(), candidateMatrix.candidateCount());
+        return MeetingSessionResponse.of(session, result);
+    }
+    
+    /**
+     * 세션 조회 (마지막 변경 시 저장한 계산 결과 반환, 외부 조회 없음)
+     */
+    public MeetingSessionResponse getSession(UUID sessionId) {
+        MeetingSession session = findActiveSession(sessionId);
+        return MeetingSessionResponse.of(session, session.getCalculatedResults());
+    }
+    
+    /**
+     * 참여자 추가 (추가된 참여자의 이동시간만 계산)
+     */
+    @Transactional
+    public MeetingSessionResponse addParticipant(UUID sessionId, LocationRequest request) {
+        MeetingSession session = findActiveSession(sessionId);
+        LocationPoint participant = coordinateService.resolveCoordinate(request);
+        
+        double[] travelTimeRow = middlePointCalculator.calculateParticipantTravelTimes(
+                participant, session.getCandidateMatrix(), session.getTransportationType());
+        session.addParticipant(participant, travelTimeRow);
+        MiddlePointResponse result = recalculate(session);
+        flush(session);
+        
+        log.info("세션 참여자 추가 - 세션: {}, 참여자: {}", sessionId, session.getParticipantCount());
+        return MeetingSessionResponse.of(session, result);
+    }
+    
+    /**
+     * 참여자 위치 변경 (변경된 참여자의 이동시간만 계산)
+     */
+    @Transactional
+    public MeetingSessionResponse moveParticipant(UUID sessionId, int participantIndex, LocationRequest request) {
+        MeetingSession session = findActiveSession(sessionId);
+        validateParticipantIndex(session, participantIndex);
+        LocationPoint participant = coordinateService.resolveCoordinate(request);
+        
+        double[] travelTimeRow = middlePointCalculator.calculateParticipantTravelTimes(
+                participant, session.getCandidateMatrix(), session.getTransportationType());
+        session.moveParticipant(participantIndex, participant, travelTimeRow);
+        MiddlePointResponse result = recalculate(session);
+        flush(session);
+        
+        log.info("세션 참여자 위치 변경 - 세션: {}, 참여자 순번: {}", sessionId, participantIndex);
+        return MeetingSessionResponse.of(session, result);
+    }
+    
+    /**
+     * 참여자 삭제 (이동시간 계산 없이 순위만 재계산)
+     */
+    @Transactional
+    public MeetingSessionResponse removeParticipant(UUID sessionId, int participantIndex) {
+        MeetingSession session = findActiveSession(sessionId);
+        validateParticipantIndex(session, participantIndex);
+        if (session.getParticipantCount() <= 1) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT, "마지막 참여자는 삭제할 수 없습니다.");
+        }
+        
+        session.removeParticipant(participantIndex);
+        MiddlePointResponse result = recalculate(session);
+        flush(session);
+        
+        log.info("세션 참여자 삭제 - 세션: {}, 참여자 순번: {}", sessionId, participantIndex);
+        return MeetingSessionResponse.of(session, result);
+    }
+    
+    private MiddlePointResponse recalculate(MeetingSession session) {
+        MiddlePointResponse result = middlePointCalculator.rankCandidateMatrix(
+                session.getCandidateMatrix(), session.getTransportationType());
+        session.updateResults(result);
+        return result;
+    }
+    
+    /**
+     * 변경 내용 즉시 반영 (다른 요청이 먼저 세션을 변경했으면 버전 불일치로 충돌 오류)
+     */
+    private void flush(MeetingSession session) {
+        try {
+            meetingSessionRepository.saveAndFlush(session);
+        } catch (OptimisticLockingFailureException e) {
+            log.info("세션 동시 변경 충돌 - 세션: {}", session.getId());
+            throw new BusinessException(ErrorCode.SESSION_CONFLICT);
+        }
+    }
+    
+    private MeetingSession findActiveSession(UUID sessionId) {
+        MeetingSession session = meetingSessionRepository.findById(sessionId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.SESSION_NOT_FOUND));
+        if (session.isExpired()) {
+            throw new BusinessException(ErrorCode.SESSION_EXPIRED);
+        }
+        if (session.getCandidateMatrix() == null) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT, "후보지점이 계산되지 않은 세션입니다.");
+        }
+        return session;
+    }
+    
+    private void validateParticipantIndex(MeetingSession session, int participantIndex) {
+        if (participantIndex < 0 || participantIndex >= session.getParticipantCount()) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT, "존재하지 않는 참여자입니다: " + participantIndex);
+        }
+    }
+}
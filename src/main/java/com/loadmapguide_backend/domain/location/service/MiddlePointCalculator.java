@@ -2,70 +2,152 @@ package com.loadmapguide_backend.domain.location.service;
 
 import com.loadmapguide_backend.domain.location.dto.LocationRequest;
 import com.loadmapguide_backend.domain.location.dto.MiddlePointResponse;
+import com.loadmapguide_backend.domain.location.entity.CandidateMatrix;
 import com.loadmapguide_backend.domain.location.entity.LocationPoint;
+import com.loadmapguide_backend.global.common.enums.MidpointStrategyType;
 import com.loadmapguide_backend.global.common.enums.TransportationType;
+import com.loadmapguide_backend.global.common.enums.TravelTimeSource;
 import com.loadmapguide_backend.global.exception.BusinessException;
 import com.loadmapguide_backend.global.exception.ErrorCode;
+import com.loadmapguide_backend.global.scoring.ScoringFeature;
+import com.loadmapguide_backend.global.scoring.ScoringModel;
+import com.loadmapguide_backend.global.scoring.ScoringModelRegistry;
 // import com.loadmapguide_backend.global.external.openai.OpenAiApiClient;
 // import com.loadmapguide_backend.global.external.openai.dto.CommercialScoreRequest;
 // import com.loadmapguide_backend.global.external.openai.dto.CommercialScoreResponse;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class MiddlePointCalculator {
     
+    private static final int TOP_CANDIDATE_COUNT = 5;
+    private static final int FINAL_CANDIDATE_COUNT = 10; // 외부 API 계산 방식으로 다시 계산하는 최종 후보지점 수
+    private static final double SEPARATION_TOLERANCE_DEGREES = 1e-7;
+    private static final double MIN_TRAVEL_TIME_MINUTES = 1.0; // 최대/최소 비율 계산 시 0분 방지
+    private static final int TRAVEL_TIME_FEATURE = ScoringFeature.TRAVEL_TIME.ordinal();
+    private static final int COMMERCIAL_FEATURE = ScoringFeature.COMMERCIAL_DENSITY.ordinal();
+    private static final int FAIRNESS_FEATURE = ScoringFeature.FAIRNESS.ordinal();
+    
     private final LocationCoordinateService coordinateService;
     private final RouteCalculationService routeCalculationService;
-    private final RealTimeTrafficService realTimeTrafficService;
+    private final TrafficAwareCandidateRefiner trafficAwareCandidateRefiner;
+    private final CandidateAddressResolver candidateAddressResolver;
+    private final AdaptiveGridSearch adaptiveGridSearch;
+    private final CommercialAreaIndex commercialAreaIndex;
+    private final Map<MidpointStrategyType, MidpointStrategy> midpointStrategies;
+    private final Map<TransportationType, TravelTimeMatrixProvider> providersByMode;
+    private final MiddlePointResultCache middlePointResultCache;
+    private final ScoringModel scoringModel;
+    private final String scoringProfile;
+    private final TravelTimeLowerBound travelTimeLowerBound;
+    private final boolean pruningEnabled;
+    private final Executor middlePointExecutor;
+    private final DistributionSummary reverseGeocodeCalls;
     // private final OpenAiApiClient openAiApiClient;
     
+    public MiddlePointCalculator(LocationCoordinateService coordinateService,
+                                 RouteCalculationService routeCalculationService,
+                                 TrafficAwareCandidateRefiner trafficAwareCandidateRefiner,
+                                 CandidateAddressResolver candidateAddressResolver,
+                                 AdaptiveGridSearch adaptiveGridSearch,
+                                 CommercialAreaIndex commercialAreaIndex,
+                                 List<MidpointStrategy> midpointStrategies,
+                                 List<TravelTimeMatrixProvider> travelTimeMatrixProviders,
+                                 TravelTimeProperties travelTimeProperties,
+                                 MiddlePointResultCache middlePointResultCache,
+                                 ScoringModelRegistry scoringModelRegistry,
+                                 @Value("${middle-point.scoring-profile:#{null}}") String scoringProfile,
+                                 TravelTimeLowerBound travelTimeLowerBound,
+                                 @Value("${middle-point.pruning.enabled:true}") boolean pruningEnabled,
+                                 @Qualifier("middlePointExecutor") Executor middlePointExecutor,
+                                 MeterRegistry meterRegistry) {
+        this.coordinateService = coordinateService;
+        this.routeCalculationService = routeCalculationService;
+        this.trafficAwareCandidateRefiner = trafficAwareCandidateRefiner;
+        this.candidateAddressResolver = candidateAddressResolver;
+        this.adaptiveGridSearch = adaptiveGridSearch;
+        this.commercialAreaIndex = commercialAreaIndex;
+        this.midpointStrategies = new EnumMap<>(MidpointStrategyType.class);
+        midpointStrategies.forEach(strategy -> this.midpointStrategies.put(strategy.getType(), strategy));
+        this.providersByMode = new EnumMap<>(TransportationType.class);
+        for (TransportationType mode : TransportationType.values()) {
+            TravelTimeSource source = travelTimeProperties.sourceFor(mode);
+            this.providersByMode.put(mode, travelTimeMatrixProviders.stream()
+                    .filter(provider -> provider.getSource() == source)
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalStateException(
+                            "이동시간 계산 방식을 찾을 수 없습니다: " + mode + " -> " + source)));
+        }
+        this.middlePointResultCache = middlePointResultCache;
+        this.scoringModel = scoringModelRegistry.getModel(ScoringModelRegistry.MIDDLE_POINT, scoringProfile);
+        this.scoringProfile = scoringProfile;
+        this.travelTimeLowerBound = travelTimeLowerBound;
+        this.pruningEnabled = pruningEnabled;
+        this.middlePointExecutor = middlePointExecutor;
+        this.reverseGeocodeCalls = DistributionSummary.builder("middle_point.reverse_geocode.calls")
+                .description("중간지점 계산 요청당 역지오코딩 호출 수")
+                .register(meterRegistry);
+    }
+    
     /**
      * 최적 중간지점 계산
      */
     public MiddlePointResponse calculateOptimalMeetingPoint(
             List<LocationRequest> startLocations,
             TransportationType transportationType) {
+        
+        return calculateOptimalMeetingPoint(startLocations, transportationType, MidpointStrategyType.CENTROID);
+    }
+    
+    /**
+     * 최적 중간지점 계산 (중간지점 계산 전략 지정)
+     */
+    public MiddlePointResponse calculateOptimalMeetingPoint(
+            List<LocationRequest> startLocations,
+            TransportationType transportationType,
+            MidpointStrategyType strategyType) {
+        
+        return calculateOptimalMeetingPoint(startLocations, transportationType, strategyType, false);
+    }
+    
+    /**
+     * 최적 중간지점 계산 (중간지점 계산 전략, 실시간 교통 반영 여부 지정)
+     * 실시간 교통 반영 시 직선거리로 전체 후보지점의 순위를 매긴 뒤 상위 후보지점만 실시간 경로로 재평가한다.
+     * 출발지에 교통수단이 지정된 참여자는 해당 교통수단으로, 나머지는 transportationType으로 계산한다
+     */
+    public MiddlePointResponse calculateOptimalMeetingPoint(
+            List<LocationRequest> startLocations,
+            TransportationType transportationType,
+            MidpointStrategyType strategyType,
+            boolean trafficAware) {
             
         long startTime = System.currentTimeMillis();
         
         try {
-            log.info("중간지점 계산 시작 - 참여자: {}, 교통수단: {}", 
-                    startLocations.size(), transportationType);
+            log.info("중간지점 계산 시작 - 참여자: {}, 교통수단: {}, 계산 전략: {}, 실시간 교통: {}", 
+                    startLocations.size(), transportationType, strategyType, trafficAware);
             
             // 1. 좌표 정보 확보
             List<LocationPoint> coordinates = coordinateService.resolveCoordinates(startLocations);
+            TransportationType[] modes = resolveParticipantModes(startLocations, transportationType);
             
-            // 2. 기하학적 중심점 계산
-            LocationPoint geometricCenter = calculateGeometricCenter(coordinates);
-            
-            // 3. 후보 지점들 생성
-            List<OptimalLocation> candidates = generateCandidateLocations(
-                    coordinates, geometricCenter, transportationType);
-            
-            // 4. 각 후보지점에 대한 이동시간 계산 및 점수화
-            List<OptimalLocation> scoredCandidates = calculateScoresForCandidates(
-                    candidates, coordinates, transportationType);
-            
-            // 5. 최적 지점 선정 (상위 5개)
-            List<OptimalLocation> topCandidates = scoredCandidates.stream()
-                    .sorted(Comparator.comparingDouble(OptimalLocation::getOverallScore).reversed())
-                    .limit(5)
-                    .collect(Collectors.toList());
-            
-            long calculationTime = System.currentTimeMillis() - startTime;
-            
-            log.info("중간지점 계산 완료 - 소요시간: {}ms, 후보지점: {}", 
-                    calculationTime, topCandidates.size());
-            
-            return buildResponse(topCandidates, startLocations.size(), 
-                               transportationType, calculationTime);
+            // 2~5. 후보지점 탐색, 순위 결정, 최종 후보지점 주소 조회 (병렬, 요청 단위 마감시간 적용)
+            return calculate(coordinates, transportationType, modes, strategyType, trafficAware,
+                    candidateAddressResolver::resolveAddresses, startTime);
                                
         } catch (Exception e) {
             log.error("중간지점 계산 중 오류 발생", e);
@@ -74,172 +156,925 @@ public class MiddlePointCalculator {
     }
     
     /**
-     * 기하학적 중심점 계산
+     * 최적 중간지점 계산 (좌표 변환이 끝난 참여자, 최종 후보지점 주소 조회 방식 지정)
+     * 대량 계산처럼 여러 모임이 지오코딩/역지오코딩 결과를 공유하는 경우에 사용한다
+     *
+     * @param participantModes 참여자별 교통수단 ({@link #resolveParticipantModes}, null이면 모두 transportationType)
      */
-    private LocationPoint calculateGeometricCenter(List<LocationPoint> coordinates) {
+    public MiddlePointResponse calculateForCoordinates(
+            List<LocationPoint> coordinates,
+            TransportationType transportationType,
+            TransportationType[] participantModes,
+            MidpointStrategyType strategyType,
+            UnaryOperator<List<LocationPoint>> addressResolver) {
+        
+        long startTime = System.currentTimeMillis();
+        
+        try {
+            TransportationType[] modes = participantModes != null
+                    ? participantModes : uniformModes(transportationType, coordinates.size());
+            return calculate(coordinates, transportationType, modes, strategyType, false, addressResolver, startTime);
+        } catch (BusinessException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("중간지점 계산 중 오류 발생", e);
+            throw new BusinessException(ErrorCode.LOCATION_CALCULATION_FAILED, e);
+        }
+    }
+    
+    /**
+     * 참여자별 교통수단 (출발지에 지정되지 않은 참여자는 요청 전체 교통수단)
+     */
+    public TransportationType[] resolveParticipantModes(List<LocationRequest> startLocations,
+                                                        TransportationType transportationType) {
+        TransportationType[] modes = new TransportationType[startLocations.size()];
+        for (int i = 0; i < modes.length; i++) {
+            TransportationType mode = startLocations.get(i).getTransportationType();
+            modes[i] = mode != null ? mode : transportationType;
+        }
+        return modes;
+    }
+    
+    private MiddlePointResponse calculate(
+            List<LocationPoint> coordinates,
+            TransportationType transportationType,
+            TransportationType[] modes,
+            MidpointStrategyType strategyType,
+            boolean trafficAware,
+            UnaryOperator<List<LocationPoint>> addressResolver,
+            long startTime) {
+        
+        RankedCandidates ranked = rankCandidates(coordinates, transportationType, modes, strategyType, trafficAware,
+                MiddlePointProgressListener.NONE, startTime);
+        if (ranked.getCachedResponse() != null) {
+            return ranked.getCachedResponse();
+        }
+        
+        List<LocationPoint> resolved = addressResolver.apply(ranked.locations());
+        return completeResponse(ranked, resolved, coordinates.size(), startTime);
+    }
+    
+    /**
+     * 최적 중간지점 계산 (비동기)
+     * 좌표 변환과 후보지점 점수화는 중간지점 계산 전용 스레드 풀에서 수행하고,
+     * 역지오코딩은 카카오 응답을 기다리는 스레드 없이 조합하므로 요청 스레드를 바로 반환할 수 있다
+     */
+    public CompletableFuture<MiddlePointResponse> calculateOptimalMeetingPointAsync(
+            List<LocationRequest> startLocations,
+            TransportationType transportationType,
+            MidpointStrategyType strategyType,
+            boolean trafficAware) {
+        
+        return calculateOptimalMeetingPointAsync(startLocations, transportationType, strategyType, trafficAware,
+                MiddlePointProgressListener.NONE);
+    }
+    
+    /**
+     * 최적 중간지점 계산 (비동기, 진행 상황 수신)
+     * 후보지점이 점수화될 때마다 listener로 전달하고, 최종 결과는 반환된 future로 완료된다
+     */
+    public CompletableFuture<MiddlePointResponse> calculateOptimalMeetingPointAsync(
+            List<LocationRequest> startLocations,
+            TransportationType transportationType,
+            MidpointStrategyType strategyType,
+            boolean trafficAware,
+            MiddlePointProgressListener listener) {
+        
+        long startTime = System.currentTimeMillis();
+        log.info("중간지점 비동기 계산 시작 - 참여자: {}, 교통수단: {}, 계산 전략: {}, 실시간 교통: {}", 
+                startLocations.size(), transportationType, strategyType, trafficAware);
+        TransportationType[] modes = resolveParticipantModes(startLocations, transportationType);
+        
+        try {
+            return coordinateService.resolveCoordinatesAsync(startLocations, middlePointExecutor)
+                    .thenApplyAsync(coordinates -> rankCandidates(
+                            coordinates, transportationType, modes, strategyType, trafficAware, listener, startTime),
+                            middlePointExecutor)
+                    .thenCompose(ranked -> ranked.getCachedResponse() != null
+                            ? CompletableFuture.completedFuture(ranked.getCachedResponse())
+                            : candidateAddressResolver.resolveAddressesAsync(ranked.locations())
+                                    .thenApply(resolved -> completeResponse(
+                                            ranked, resolved, startLocations.size(), startTime)))
+                    .handle((response, error) -> {
+                        if (error == null) {
+                            return response;
+                        }
+                        Throwable cause = error instanceof CompletionException && error.getCause() != null
+                                ? error.getCause() : error;
+                        log.error("중간지점 비동기 계산 중 오류 발생", cause);
+                        throw new BusinessException(ErrorCode.LOCATION_CALCULATION_FAILED, cause);
+                    });
+        } catch (RejectedExecutionException e) {
+            log.warn("중간지점 계산 스레드 풀 포화로 요청 거절");
+            return CompletableFuture.failedFuture(new BusinessException(ErrorCode.LOCATION_CALCULATION_FAILED, e));
+        }
+    }
+    
+    /**
+     * 세션 후보지점 이동시간 행렬 생성
+     * 전체 탐색으로 평가한 후보지점을 세션에 고정하고, 참여자별 후보지점 이동시간을 행으로 저장한다
+     */
+    public CandidateMatrix buildCandidateMatrix(
+            List<LocationPoint> coordinates,
+            TransportationType transportationType,
+            MidpointStrategyType strategyType) {
+        
         if (coordinates.isEmpty()) {
             throw new BusinessException(ErrorCode.INVALID_LOCATION);
         }
         
-        double avgLat = coordinates.stream()
-                .mapToDouble(LocationPoint::getLatitude)
-                .average()
-                .orElse(0.0);
-                
-        double avgLng = coordinates.stream()
-                .mapToDouble(LocationPoint::getLongitude)
-                .average()
-                .orElse(0.0);
+        int participantCount = coordinates.size();
+        double[] latitudes = new double[participantCount];
+        double[] longitudes = new double[participantCount];
+        for (int i = 0; i < participantCount; i++) {
+            latitudes[i] = coordinates.get(i).getLatitude();
+            longitudes[i] = coordinates.get(i).getLongitude();
+        }
         
-        // 중심점에 대해서도 역지오코딩 수행
-        String centerAddress;
-        String centerPlaceName;
-        try {
-            LocationPoint reverseGeocodedCenter = coordinateService.reverseGeocode(avgLat, avgLng);
-            centerAddress = reverseGeocodedCenter.getAddress();
-            centerPlaceName = reverseGeocodedCenter.getPlaceName();
-        } catch (Exception e) {
-            log.debug("중심점 역지오코딩 실패: ({}, {})", avgLat, avgLng);
-            centerAddress = String.format("중심지점 (%.6f, %.6f)", avgLat, avgLng);
-            centerPlaceName = "기하학적 중심점";
+        LocationPoint center = calculateCenter(latitudes, longitudes, participantCount, resolveStrategy(strategyType));
+        // 참여자가 바뀌어도 후보지점을 재사용하므로 현재 참여자 기준 가지치기는 하지 않음
+        AdaptiveGridSearch.SearchResult<OptimalLocation> searchResult = searchCandidateLocations(
+                latitudes, longitudes, participantCount, center, uniformModes(transportationType, participantCount),
+                MiddlePointProgressListener.NONE, false);
+        List<OptimalLocation> candidates = searchResult.getEvaluatedCandidates();
+        
+        int candidateCount = candidates.size();
+        double[] candidateLats = new double[candidateCount];
+        double[] candidateLngs = new double[candidateCount];
+        List<double[]> travelTimes = new ArrayList<>(participantCount);
+        for (int i = 0; i < participantCount; i++) {
+            travelTimes.add(new double[candidateCount]);
+        }
+        for (int c = 0; c < candidateCount; c++) {
+            OptimalLocation candidate = candidates.get(c);
+            candidateLats[c] = candidate.getLocation().getLatitude();
+            candidateLngs[c] = candidate.getLocation().getLongitude();
+            for (int i = 0; i < participantCount; i++) {
+                travelTimes.get(i)[c] = candidate.getTravelTimes()[i];
+            }
         }
         
-        return LocationPoint.builder()
-                .latitude(avgLat)
-                .longitude(avgLng)
-                .address(centerAddress)
-                .placeName(centerPlaceName)
+        return CandidateMatrix.builder()
+                .latitudes(candidateLats)
+                .longitudes(candidateLngs)
+                .travelTimes(travelTimes)
+                .minSeparationDegrees(searchResult.getInitialStepDegrees())
                 .build();
     }
     
     /**
-     * 후보 지점들 생성
+     * 한 참여자의 세션 후보지점별 이동시간 계산 (1 × 후보지점 수)
      */
-    private List<OptimalLocation> generateCandidateLocations(
-            List<LocationPoint> startPoints, 
-            LocationPoint center, 
+    public double[] calculateParticipantTravelTimes(
+            LocationPoint participant,
+            CandidateMatrix candidateMatrix,
             TransportationType transportationType) {
-            
-        List<OptimalLocation> candidates = new ArrayList<>();
         
-        // 중심점을 기본 후보로 추가
-        candidates.add(OptimalLocation.builder()
-                .location(center)
-                .build());
+        // 세션 후보지점 행렬은 탐색 계산 방식으로 만들었으므로 추가 참여자도 같은 계산 방식 사용
+        int candidateCount = candidateMatrix.candidateCount();
+        TravelTimeMatrix matrix = providerFor(transportationType).searchProvider().compute(
+                new double[]{participant.getLatitude()}, new double[]{participant.getLongitude()}, 1,
+                candidateMatrix.getLatitudes(), candidateMatrix.getLongitudes(), candidateCount,
+                transportationType);
         
-        // 중심점 주변 격자 패턴으로 후보지점 생성
-        double[] offsets = {-0.005, -0.003, 0.0, 0.003, 0.005}; // 약 ±500m 간격
+        double[] row = new double[candidateCount];
+        for (int c = 0; c < candidateCount; c++) {
+            row[c] = matrix.get(0, c);
+        }
+        return row;
+    }
+    
+    /**
+     * 세션 후보지점 이동시간 행렬로 순위 재계산
+     * 저장된 이동시간만으로 점수를 다시 매기므로 탐색/이동시간 조회 없이 최종 후보지점 역지오코딩만 수행한다
+     */
+    public MiddlePointResponse rankCandidateMatrix(
+            CandidateMatrix candidateMatrix,
+            TransportationType transportationType) {
         
-        for (double latOffset : offsets) {
-            for (double lngOffset : offsets) {
-                if (latOffset == 0.0 && lngOffset == 0.0) continue; // 중심점은 이미 추가됨
-                
-                double candidateLat = center.getLatitude() + latOffset;
-                double candidateLng = center.getLongitude() + lngOffset;
-                
-                // 역지오코딩으로 실제 주소 조회
-                String actualAddress;
-                String placeName;
-                try {
-                    LocationPoint reverseGeocodedLocation = coordinateService.reverseGeocode(candidateLat, candidateLng);
-                    actualAddress = reverseGeocodedLocation.getAddress();
-                    placeName = reverseGeocodedLocation.getPlaceName();
-                } catch (Exception e) {
-                    log.debug("역지오코딩 실패, 좌표 표시: ({}, {})", candidateLat, candidateLng);
-                    actualAddress = String.format("추천지점 (%.6f, %.6f)", candidateLat, candidateLng);
-                    placeName = "중간지점";
-                }
-                
-                LocationPoint candidate = LocationPoint.builder()
-                        .latitude(candidateLat)
-                        .longitude(candidateLng)
-                        .address(actualAddress)
-                        .placeName(placeName)
-                        .build();
-                        
-                candidates.add(OptimalLocation.builder()
-                        .location(candidate)
-                        .build());
+        long startTime = System.currentTimeMillis();
+        int participantCount = candidateMatrix.participantCount();
+        int candidateCount = candidateMatrix.candidateCount();
+        if (participantCount == 0 || candidateCount == 0) {
+            throw new BusinessException(ErrorCode.INVALID_LOCATION);
+        }
+        
+        TravelTimeMatrix matrix = new TravelTimeMatrix(participantCount, candidateCount);
+        List<OptimalLocation> candidates = new ArrayList<>(candidateCount);
+        for (int c = 0; c < candidateCount; c++) {
+            candidates.add(OptimalLocation.builder()
+                    .location(createCandidatePoint(candidateMatrix.getLatitudes()[c], candidateMatrix.getLongitudes()[c]))
+                    .build());
+            for (int i = 0; i < participantCount; i++) {
+                matrix.set(i, c, candidateMatrix.getTravelTimes().get(i)[c]);
             }
         }
         
-        return candidates;
+        List<OptimalLocation> topCandidates = selectTopCandidates(
+                calculateScoresForCandidates(candidates, matrix), candidateMatrix.getMinSeparationDegrees(),
+                TOP_CANDIDATE_COUNT);
+        
+        RankedCandidates ranked = RankedCandidates.builder()
+                .topCandidates(topCandidates)
+                .algorithm(String.format("세션 증분 재계산 (후보지점 %d곳, %s)",
+                        candidateCount, providerFor(transportationType).searchProvider().getSource().getDescription()))
+                .transportation(transportationType.getDescription())
+                .build();
+        
+        List<LocationPoint> resolved = candidateAddressResolver.resolveAddresses(ranked.locations());
+        return completeResponse(ranked, resolved, participantCount, startTime);
     }
     
     /**
-     * 후보지점들의 점수 계산
+     * 후보지점 탐색 및 순위 결정 (동기/비동기 공통, 외부 호출 없이 계산만 수행)
+     * 같은 모임의 반복 요청이면 캐시된 응답을 담아 반환한다
      */
-    private List<OptimalLocation> calculateScoresForCandidates(
-            List<OptimalLocation> candidates,
-            List<LocationPoint> startPoints,
-            TransportationType transportationType) {
+    private RankedCandidates rankCandidates(
+            List<LocationPoint> coordinates,
+            TransportationType transportationType,
+            TransportationType[] modes,
+            MidpointStrategyType strategyType,
+            boolean trafficAware,
+            MiddlePointProgressListener listener,
+            long startTime) {
+        
+        if (coordinates.isEmpty()) {
+            throw new BusinessException(ErrorCode.INVALID_LOCATION);
+        }
+        
+        int participantCount = coordinates.size();
+        double[] latitudes = new double[participantCount];
+        double[] longitudes = new double[participantCount];
+        for (int i = 0; i < participantCount; i++) {
+            latitudes[i] = coordinates.get(i).getLatitude();
+            longitudes[i] = coordinates.get(i).getLongitude();
+        }
+        MidpointStrategy strategy = resolveStrategy(strategyType);
+        
+        // 1-1. 같은 모임의 반복 요청은 캐시된 결과 사용 (실시간 교통 반영 요청은 캐싱하지 않음)
+        String cacheKey = trafficAware ? null : middlePointResultCache.createKey(
+                latitudes, longitudes, participantCount, transportationType, modes, strategy.getType(),
+                sourcesOf(modes), scoringProfile);
+        MiddlePointResponse cached = middlePointResultCache.get(cacheKey, transportationType);
+        if (cached != null) {
+            log.info("중간지점 계산 결과 캐시 사용 - 참여자: {}, 교통수단: {}", participantCount, transportationType);
+            return RankedCandidates.builder()
+                    .cachedResponse(markCached(cached, startTime))
+                    .build();
+        }
+        
+        // 2. 탐색 시작점 계산 (전략별 중심점)
+        LocationPoint center = calculateCenter(latitudes, longitudes, participantCount, strategy);
+        
+        // 3. 적응형 격자 탐색으로 후보지점 생성 및 점수화
+        AdaptiveGridSearch.SearchResult<OptimalLocation> searchResult = searchCandidateLocations(
+                latitudes, longitudes, participantCount, center, modes, listener, true);
+        List<OptimalLocation> evaluatedCandidates = searchResult.getEvaluatedCandidates();
+        int prunedCount = (int) evaluatedCandidates.stream()
+                .filter(OptimalLocation::isPruned)
+                .count();
+        double pruneRatio = evaluatedCandidates.isEmpty() ? 0.0 : (double) prunedCount / evaluatedCandidates.size();
+        
+        // 4. 최적 지점 선정 (가지치기되지 않은 후보지점 중 서로 초기 탐색 간격 이상 떨어진 상위 5개)
+        List<OptimalLocation> unprunedCandidates = evaluatedCandidates.stream()
+                .filter(candidate -> !candidate.isPruned())
+                .collect(Collectors.toList());
+        List<OptimalLocation> topCandidates;
+        int finalCandidateCount = 0;
+        if (usesExternalSource(modes)) {
+            // 4-0. 외부 API 계산 방식은 고정된 최종 후보지점 전체를 한 번에 다시 계산해 순위 결정
+            List<OptimalLocation> finalCandidates = selectTopCandidates(
+                    unprunedCandidates, searchResult.getInitialStepDegrees(), FINAL_CANDIDATE_COUNT);
+            finalCandidateCount = finalCandidates.size();
+            topCandidates = selectTopCandidates(
+                    rescoreFinalCandidates(latitudes, longitudes, participantCount, modes, finalCandidates),
+                    searchResult.getInitialStepDegrees(), TOP_CANDIDATE_COUNT);
+        } else {
+            topCandidates = selectTopCandidates(
+                    unprunedCandidates, searchResult.getInitialStepDegrees(), TOP_CANDIDATE_COUNT);
+        }
+        
+        // 4-1. 실시간 교통 반영 (상위 후보지점만, 실시간 경로를 지원하는 교통수단의 참여자만 재평가)
+        if (trafficAware) {
+            topCandidates = refineWithRealTimeTraffic(coordinates, topCandidates, modes, startTime);
+        }
+        int realTimeCandidateCount = (int) topCandidates.stream()
+                .filter(OptimalLocation::isRealTimeTraffic)
+                .count();
+        
+        String algorithm = String.format("%s + 적응형 격자 탐색 (평가 %d회, 반복 %d회, %s)",
+                strategy.getType().getDescription(),
+                searchResult.getEvaluationCount(), searchResult.getIterationCount(),
+                describeSources(modes, true));
+        if (finalCandidateCount > 0) {
+            algorithm += String.format(" + 최종 후보 %d곳 재계산 (%s)",
+                    finalCandidateCount, describeSources(modes, false));
+        }
+        if (realTimeCandidateCount > 0) {
+            algorithm += String.format(" + 실시간 교통 반영 (%d곳)", realTimeCandidateCount);
+        }
+        log.debug("후보지점 가지치기 - 평가: {}, 제외: {}", evaluatedCandidates.size(), prunedCount);
+        
+        return RankedCandidates.builder()
+                .cacheKey(cacheKey)
+                .topCandidates(topCandidates)
+                .algorithm(algorithm)
+                .realTimeCandidateCount(realTimeCandidateCount)
+                .pruneRatio(pruneRatio)
+                .transportation(describeModes(modes))
+                .build();
+    }
+    
+    /**
+     * 주소가 조회된 최종 후보지점으로 응답 생성 및 캐시 저장
+     */
+    private MiddlePointResponse completeResponse(
+            RankedCandidates ranked,
+            List<LocationPoint> resolvedLocations,
+            int participantCount,
+            long startTime) {
+        
+        reverseGeocodeCalls.record(resolvedLocations.size());
+        
+        List<OptimalLocation> topCandidates = new ArrayList<>(resolvedLocations.size());
+        for (int i = 0; i < resolvedLocations.size(); i++) {
+            topCandidates.add(ranked.getTopCandidates().get(i).toBuilder()
+                    .location(resolvedLocations.get(i))
+                    .build());
+        }
+        
+        long calculationTime = System.currentTimeMillis() - startTime;
+        
+        log.info("중간지점 계산 완료 - 소요시간: {}ms, 후보지점: {}", 
+                calculationTime, topCandidates.size());
+        
+        MiddlePointResponse response = buildResponse(topCandidates, participantCount, 
+                           ranked.getTransportation(), calculationTime, ranked.getAlgorithm(), ranked.getRealTimeCandidateCount(),
+                           ranked.getPruneRatio());
+        middlePointResultCache.put(ranked.getCacheKey(), response);
+        
+        return response;
+    }
+    
+    /**
+     * 중간지점 계산 전략 조회
+     */
+    private MidpointStrategy resolveStrategy(MidpointStrategyType strategyType) {
+        MidpointStrategy strategy = midpointStrategies.get(
+                strategyType != null ? strategyType : MidpointStrategyType.CENTROID);
+        if (strategy == null) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT, "지원하지 않는 중간지점 계산 전략입니다: " + strategyType);
+        }
+        return strategy;
+    }
+    
+    /**
+     * 교통수단별 이동시간 행렬 계산 방식 (middle-point.travel-time.source-by-mode, 지정하지 않은 교통수단은 기본 계산 방식)
+     */
+    private TravelTimeMatrixProvider providerFor(TransportationType transportationType) {
+        return providersByMode.get(transportationType);
+    }
+    
+    /**
+     * 탐색 계산 방식과 다른(외부 API) 계산 방식을 쓰는 교통수단이 있는지
+     */
+    private boolean usesExternalSource(TransportationType[] modes) {
+        return Arrays.stream(modes)
+                .distinct()
+                .map(this::providerFor)
+                .anyMatch(provider -> provider.searchProvider() != provider);
+    }
+    
+    /**
+     * 참여자별 이동시간 계산 방식 (참여자 순서)
+     */
+    private TravelTimeSource[] sourcesOf(TransportationType[] modes) {
+        TravelTimeSource[] sources = new TravelTimeSource[modes.length];
+        for (int i = 0; i < modes.length; i++) {
+            sources[i] = providerFor(modes[i]).getSource();
+        }
+        return sources;
+    }
+    
+    /**
+     * 요청 단위 외부 조회 예산 (참여자 교통수단이 사용하는 계산 방식마다 1개)
+     */
+    private Map<TravelTimeSource, TravelTimeBudget> newBudgets(TransportationType[] modes) {
+        Map<TravelTimeSource, TravelTimeBudget> budgets = new EnumMap<>(TravelTimeSource.class);
+        for (TransportationType mode : modes) {
+            TravelTimeMatrixProvider provider = providerFor(mode);
+            budgets.computeIfAbsent(provider.getSource(), source -> provider.newBudget());
+        }
+        return budgets;
+    }
+    
+    private static TransportationType[] uniformModes(TransportationType transportationType, int count) {
+        TransportationType[] modes = new TransportationType[count];
+        Arrays.fill(modes, transportationType);
+        return modes;
+    }
+    
+    /**
+     * 참여자 × 후보지점 이동시간 행렬 계산 (참여자별 교통수단)
+     * 교통수단마다 해당 참여자들만 모아 같은 후보지점 집합으로 한 번씩 계산하고 하나의 행렬로 합친다.
+     * 교통수단이 늘어도 후보지점 × 참여자 쌍 수는 그대로이므로 외부 호출 수가 늘지 않는다
+     *
+     * @param search  탐색 반복용이면 교통수단별 탐색 계산 방식 사용 (외부 호출 없음)
+     * @param budgets 계산 방식별 요청 단위 외부 조회 예산
+     */
+    private TravelTimeMatrix computeTravelTimes(
+            double[] latitudes, double[] longitudes, int participantCount, TransportationType[] modes,
+            double[] candidateLats, double[] candidateLngs, int candidateCount,
+            boolean search, Map<TravelTimeSource, TravelTimeBudget> budgets) {
+        
+        // 교통수단이 하나면 그대로 계산
+        boolean uniform = true;
+        for (int i = 1; i < participantCount && uniform; i++) {
+            uniform = modes[i] == modes[0];
+        }
+        if (uniform) {
+            TravelTimeMatrixProvider provider = search
+                    ? providerFor(modes[0]).searchProvider()
+                    : providerFor(modes[0]);
+            return provider.compute(latitudes, longitudes, participantCount,
+                    candidateLats, candidateLngs, candidateCount, modes[0], budgetOf(budgets, provider));
+        }
+        
+        TravelTimeMatrix merged = new TravelTimeMatrix(participantCount, candidateCount);
+        int[] members = new int[participantCount];
+        double[] memberLats = new double[participantCount];
+        double[] memberLngs = new double[participantCount];
+        
+        for (TransportationType mode : TransportationType.values()) {
+            int memberCount = 0;
+            for (int i = 0; i < participantCount; i++) {
+                if (modes[i] == mode) {
+                    members[memberCount] = i;
+                    memberLats[memberCount] = latitudes[i];
+                    memberLngs[memberCount] = longitudes[i];
+                    memberCount++;
+                }
+            }
+            if (memberCount == 0) {
+                continue;
+            }
             
-        return candidates.stream()
-                .map(candidate -> {
-                    // 각 출발지에서의 이동시간 계산
-                    double totalTravelTime = calculateTotalTravelTime(
-                            startPoints, candidate.getLocation(), transportationType);
+            TravelTimeMatrixProvider provider = search ? providerFor(mode).searchProvider() : providerFor(mode);
+            TravelTimeMatrix partial = provider.compute(memberLats, memberLngs, memberCount,
+                    candidateLats, candidateLngs, candidateCount, mode, budgetOf(budgets, provider));
+            for (int c = 0; c < candidateCount; c++) {
+                for (int k = 0; k < memberCount; k++) {
+                    merged.set(members[k], c, partial.get(k, c));
+                }
+            }
+        }
+        
+        return merged;
+    }
+    
+    private static TravelTimeBudget budgetOf(Map<TravelTimeSource, TravelTimeBudget> budgets,
+                                             TravelTimeMatrixProvider provider) {
+        return budgets.getOrDefault(provider.getSource(), TravelTimeBudget.UNLIMITED);
+    }
+    
+    /**
+     * 교통수단 표시 (한 가지면 이름, 여러 가지면 교통수단별 인원)
+     */
+    private static String describeModes(TransportationType[] modes) {
+        int[] counts = new int[TransportationType.values().length];
+        for (TransportationType mode : modes) {
+            counts[mode.ordinal()]++;
+        }
+        
+        List<String> parts = new ArrayList<>();
+        for (TransportationType mode : TransportationType.values()) {
+            if (counts[mode.ordinal()] > 0) {
+                parts.add(mode.getDescription() + " " + counts[mode.ordinal()] + "명");
+            }
+        }
+        return parts.size() == 1 ? modes[0].getDescription() : "혼합 (" + String.join(", ", parts) + ")";
+    }
+    
+    /**
+     * 사용된 이동시간 계산 방식 표시 (계산 방식이 한 가지면 이름, 여러 가지면 교통수단별 계산 방식)
+     *
+     * @param search 탐색 반복에 쓴 계산 방식 표시
+     */
+    private String describeSources(TransportationType[] modes, boolean search) {
+        Map<TransportationType, TravelTimeSource> sources = new EnumMap<>(TransportationType.class);
+        for (TransportationType mode : modes) {
+            TravelTimeMatrixProvider provider = search ? providerFor(mode).searchProvider() : providerFor(mode);
+            sources.put(mode, provider.getSource());
+        }
+        if (sources.values().stream().distinct().count() == 1) {
+            return sources.values().iterator().next().getDescription();
+        }
+        return sources.entrySet().stream()
+                .map(entry -> entry.getKey().getDescription() + ": " + entry.getValue().getDescription())
+                .collect(Collectors.joining(", "));
+    }
+    
+    /**
+     * 전략별 중심점 계산
+     */
+    private LocationPoint calculateCenter(double[] latitudes, double[] longitudes, int count,
+                                          MidpointStrategy strategy) {
+        double[] center = new double[2];
+        strategy.calculate(latitudes, longitudes, count, center);
+        
+        // 중심점 주소는 최종 후보지점에 포함될 경우 함께 역지오코딩된다
+        return LocationPoint.builder()
+                .latitude(center[0])
+                .longitude(center[1])
+                .address(String.format("중심지점 (%.6f, %.6f)", center[0], center[1]))
+                .placeName(strategy.getType().getDescription())
+                .build();
+    }
+    
+    /**
+     * 후보 지점들 탐색
+     * 참여자 분포 크기에 맞춰 탐색 범위를 정하고, 이동시간/상업지역 종합 점수가 최대인 지점으로 수렴
+     *
+     * @param prune 점수 상한이 현재 k번째 점수에 못 미치는 후보지점은 이동시간 계산 없이 제외 (분기 한정)
+     */
+    private AdaptiveGridSearch.SearchResult<OptimalLocation> searchCandidateLocations(
+            double[] latitudes,
+            double[] longitudes,
+            int participantCount,
+            LocationPoint center, 
+            TransportationType[] modes,
+            MiddlePointProgressListener listener,
+            boolean prune) {
+        
+        double minLat = Double.MAX_VALUE, maxLat = -Double.MAX_VALUE;
+        double minLng = Double.MAX_VALUE, maxLng = -Double.MAX_VALUE;
+        for (int i = 0; i < participantCount; i++) {
+            minLat = Math.min(minLat, latitudes[i]);
+            maxLat = Math.max(maxLat, latitudes[i]);
+            minLng = Math.min(minLng, longitudes[i]);
+            maxLng = Math.max(maxLng, longitudes[i]);
+        }
+        
+        // 격자 단위 이동시간(사전 계산 격자)은 격자 간격보다 좁혀도 점수가 같으므로 그 아래로 좁히지 않음
+        double resolution = Arrays.stream(modes)
+                .mapToDouble(mode -> providerFor(mode).searchProvider().resolutionDegrees())
+                .max()
+                .orElse(0.0);
+        double spread = Math.max(maxLat - minLat, maxLng - minLng);
+        
+        // 지금까지 점수화한 후보지점의 상위 k개 점수 (최소 힙, 간격 조건 없이 점수만 비교하므로 k번째 점수는 줄어들지 않음)
+        // 최종 후보지점을 외부 계산 방식으로 다시 계산하면 그 후보지점 수만큼 남긴다
+        int keepCount = usesExternalSource(modes) ? FINAL_CANDIDATE_COUNT : TOP_CANDIDATE_COUNT;
+        PriorityQueue<Double> topScores = new PriorityQueue<>(keepCount + 1);
+        boolean pruning = prune && pruningEnabled && scoringModel.isMonotone();
+        
+        return adaptiveGridSearch.search(
+                center.getLatitude(), center.getLongitude(), spread, resolution,
+                (lats, lngs, count) -> {
+                    List<OptimalLocation> candidates = new ArrayList<>(count);
+                    for (int i = 0; i < count; i++) {
+                        // 시작점(중심점)은 기존 라벨 유지
+                        LocationPoint location = lats[i] == center.getLatitude() && lngs[i] == center.getLongitude()
+                                ? center
+                                : createCandidatePoint(lats[i], lngs[i]);
+                        candidates.add(OptimalLocation.builder()
+                                .location(location)
+                                .build());
+                    }
                     
-                    // 상업지역 점수 계산 (기존 휴리스틱)
-                    double commercialScore = calculateCommercialScore(candidate.getLocation());
+                    // 1. 점수 상한으로 가지치기 (상위 k개가 채워진 뒤부터)
+                    double[] upperBounds = pruning && topScores.size() == keepCount
+                            ? calculateScoreUpperBounds(latitudes, longitudes, participantCount,
+                                    candidates, lats, lngs, count, modes)
+                            : null;
+                    double threshold = upperBounds != null ? topScores.peek() : Double.NEGATIVE_INFINITY;
                     
-                    // 전체 점수 계산
-                    double overallScore = calculateOverallScore(totalTravelTime, commercialScore);
+                    int survivorCount = 0;
+                    double[] survivorLats = new double[count];
+                    double[] survivorLngs = new double[count];
+                    List<OptimalLocation> survivors = new ArrayList<>(count);
+                    for (int i = 0; i < count; i++) {
+                        if (upperBounds == null || upperBounds[i] >= threshold) {
+                            survivorLats[survivorCount] = lats[i];
+                            survivorLngs[survivorCount] = lngs[i];
+                            survivors.add(candidates.get(i));
+                            survivorCount++;
+                        }
+                    }
                     
-                    return OptimalLocation.builder()
-                            .location(candidate.getLocation())
-                            .averageTravelTime(totalTravelTime / startPoints.size())
-                            .commercialScore(commercialScore)
-                            .overallScore(overallScore)
-                            .build();
-                })
+                    // 2. 남은 후보지점만 참여자 × 후보지점 이동시간을 한 번에 계산 (교통수단별 1회, 탐색 계산 방식)
+                    List<OptimalLocation> scored = survivorCount == 0 ? List.of() : calculateScoresForCandidates(
+                            survivors, computeTravelTimes(latitudes, longitudes, participantCount, modes,
+                                    survivorLats, survivorLngs, survivorCount, true, Map.of()));
+                    
+                    // 3. 입력 순서대로 결과 구성 (제외된 후보지점은 점수 상한을 점수로 표시, 최적점이 될 수 없음)
+                    List<OptimalLocation> results = new ArrayList<>(count);
+                    int next = 0;
+                    for (int i = 0; i < count; i++) {
+                        if (upperBounds == null || upperBounds[i] >= threshold) {
+                            OptimalLocation candidate = scored.get(next++);
+                            topScores.offer(candidate.getOverallScore());
+                            if (topScores.size() > keepCount) {
+                                topScores.poll();
+                            }
+                            listener.onCandidateScored(toResponsePoint(candidate));
+                            results.add(candidate);
+                        } else {
+                            results.add(candidates.get(i).toBuilder()
+                                    .overallScore(upperBounds[i])
+                                    .pruned(true)
+                                    .build());
+                        }
+                    }
+                    return results;
+                },
+                OptimalLocation::getOverallScore);
+    }
+    
+    /**
+     * 캐시된 응답을 이번 요청 기준으로 표시
+     * 계산 시간은 원래 계산 시간이 아니라 이번 요청의 캐시 조회까지 걸린 시간으로 바꾸고, 캐시 사용 여부를 표시한다
+     */
+    private MiddlePointResponse markCached(MiddlePointResponse cached, long startTime) {
+        MiddlePointResponse.CalculationInfo info = cached.getCalculationInfo();
+        MiddlePointResponse.CalculationInfo.CalculationInfoBuilder builder = info != null
+                ? info.toBuilder()
+                : MiddlePointResponse.CalculationInfo.builder();
+        return cached.toBuilder()
+                .calculationInfo(builder
+                        .calculationTimeMs(System.currentTimeMillis() - startTime)
+                        .cached(true)
+                        .build())
+                .build();
+    }
+    
+    /**
+     * 상위 후보지점 선정
+     * 점수 순으로 고르되, 이미 고른 후보지점과 위경도 차가 모두 최소 간격 미만인 후보지점은 건너뛴다.
+     * 최적점 주변 수십 m 안의 후보지점이 상위권을 채우지 않도록 하기 위함이며, 떨어진 후보지점이 부족하면 limit개보다 적을 수 있다
+     *
+     * @param minSeparationDegrees 후보지점 간 최소 간격 (초기 탐색 간격), 0이면 점수 순 상위 limit개
+     */
+    private List<OptimalLocation> selectTopCandidates(List<OptimalLocation> candidates, double minSeparationDegrees,
+                                                      int limit) {
+        List<OptimalLocation> sorted = candidates.stream()
+                .sorted(Comparator.comparingDouble(OptimalLocation::getOverallScore).reversed())
                 .collect(Collectors.toList());
+        // 탐색 격자 좌표의 부동소수점 오차로 정확히 한 간격 떨어진 이웃이 제외되지 않도록 여유를 둠
+        double separation = minSeparationDegrees - SEPARATION_TOLERANCE_DEGREES;
+        
+        List<OptimalLocation> selected = new ArrayList<>(limit);
+        for (OptimalLocation candidate : sorted) {
+            if (selected.size() == limit) {
+                break;
+            }
+            LocationPoint location = candidate.getLocation();
+            boolean tooClose = selected.stream()
+                    .map(OptimalLocation::getLocation)
+                    .anyMatch(chosen -> Math.abs(chosen.getLatitude() - location.getLatitude()) < separation
+                            && Math.abs(chosen.getLongitude() - location.getLongitude()) < separation);
+            if (!tooClose) {
+                selected.add(candidate);
+            }
+        }
+        return selected;
     }
     
     /**
-     * 총 이동시간 계산
+     * 최종 후보지점 재계산
+     * 탐색은 외부 호출 없는 계산 방식으로 끝내고, 고정된 최종 후보지점 전체를 교통수단별 계산 방식으로 한 번에 다시 계산한다.
+     * 외부 조회가 예산/마감시간 안에 모두 끝나지 못한 행렬은 계산 방식이 전체를 추정값으로 돌려주므로 한 행렬 안에서 출처가 섞이지 않는다
      */
-    private double calculateTotalTravelTime(
-            List<LocationPoint> startPoints,
-            LocationPoint destination,
-            TransportationType transportationType) {
-            
-        return startPoints.stream()
-                .mapToDouble(start -> {
-                    // 실제로는 외부 API를 호출해야 하지만, 여기서는 직선거리 기반으로 근사치 계산
-                    double distance = calculateDistance(start, destination);
-                    
-                    // 교통수단별 평균 속도로 시간 계산 (분 단위)
-                    double speed = switch (transportationType) {
-                        case CAR -> 35.0; // km/h (서울 시내 평균)
-                        case SUBWAY -> 40.0; // km/h (지하철 평균 속도, 환승시간 포함)
-                        case BUS -> 20.0; // km/h (버스 평균 속도, 정류장 대기시간 포함)
-                        case PUBLIC_TRANSPORT -> 25.0; // km/h (지하철+버스 혼용)
-                        case WALK -> 5.0; // km/h (도보 평균)
-                    };
-                    
-                    return (distance / 1000.0) / speed * 60; // 분 단위
-                })
-                .sum();
+    private List<OptimalLocation> rescoreFinalCandidates(
+            double[] latitudes, double[] longitudes, int participantCount, TransportationType[] modes,
+            List<OptimalLocation> finalCandidates) {
+        
+        int candidateCount = finalCandidates.size();
+        double[] candidateLats = new double[candidateCount];
+        double[] candidateLngs = new double[candidateCount];
+        for (int c = 0; c < candidateCount; c++) {
+            candidateLats[c] = finalCandidates.get(c).getLocation().getLatitude();
+            candidateLngs[c] = finalCandidates.get(c).getLocation().getLongitude();
+        }
+        
+        TravelTimeMatrix matrix = computeTravelTimes(latitudes, longitudes, participantCount, modes,
+                candidateLats, candidateLngs, candidateCount, false, newBudgets(modes));
+        return calculateScoresForCandidates(finalCandidates, matrix);
+    }
+    
+    /**
+     * 후보지점별 종합 점수 상한
+     * 이동시간은 직선거리/최고 속도 하한으로, 공평성은 최고점으로 두고 상업지역 점수는 그대로 계산한다.
+     * 가중치가 모두 0 이상인 점수 모델에서만 실제 종합 점수 이상이 보장된다
+     */
+    private double[] calculateScoreUpperBounds(
+            double[] latitudes, double[] longitudes, int participantCount,
+            List<OptimalLocation> candidates, double[] lats, double[] lngs, int count,
+            TransportationType[] modes) {
+        
+        double[] lowerBoundTotals = new double[count];
+        travelTimeLowerBound.totalMinutes(latitudes, longitudes, participantCount, lats, lngs, count,
+                modes, lowerBoundTotals);
+        
+        double[] features = new double[count * ScoringModel.FEATURE_COUNT];
+        for (int c = 0; c < count; c++) {
+            int offset = c * ScoringModel.FEATURE_COUNT;
+            features[offset + TRAVEL_TIME_FEATURE] = Math.max(0, 100 - lowerBoundTotals[c] * 2);
+            features[offset + COMMERCIAL_FEATURE] = calculateCommercialScore(candidates.get(c).getLocation());
+            features[offset + FAIRNESS_FEATURE] = 100.0;
+        }
+        
+        double[] upperBounds = new double[count];
+        scoringModel.scoreAll(features, count, upperBounds);
+        return upperBounds;
+    }
+    
+    /**
+     * 후보지점 생성
+     * 주소는 점수 계산 후 최종 후보지점에 대해서만 조회하므로 좌표 표시로 먼저 생성
+     */
+    private LocationPoint createCandidatePoint(double latitude, double longitude) {
+        return LocationPoint.builder()
+                .latitude(latitude)
+                .longitude(longitude)
+                .address(String.format("추천지점 (%.6f, %.6f)", latitude, longitude))
+                .placeName("중간지점")
+                .build();
     }
     
     /**
-     * 두 지점 간 거리 계산 (Haversine formula)
+     * 상위 후보지점 실시간 교통 재평가
+     * 호출 예산 안의 후보지점만 실시간 경로를 조회해 다시 점수화하고, 재평가된 후보지점끼리 기존 순위 자리 안에서 재정렬한다.
+     * 실시간 경로를 지원하는 교통수단의 참여자만 조회하며, 그 외 참여자와 실시간 데이터가 없는 참여자는 1단계 추정 이동시간을 그대로 사용한다
      */
-    private double calculateDistance(LocationPoint point1, LocationPoint point2) {
-        final int R = 6371; // Earth's radius in km
+    private List<OptimalLocation> refineWithRealTimeTraffic(
+            List<LocationPoint> participants,
+            List<OptimalLocation> rankedCandidates,
+            TransportationType[] modes,
+            long requestStartMillis) {
+        
+        int participantCount = participants.size();
+        List<Integer> refinedParticipants = new ArrayList<>(participantCount);
+        for (int i = 0; i < participantCount; i++) {
+            if (trafficAwareCandidateRefiner.supports(modes[i])) {
+                refinedParticipants.add(i);
+            }
+        }
+        if (refinedParticipants.isEmpty()) {
+            log.debug("실시간 교통 반영은 자동차만 지원, 직선거리 추정 유지 - 교통수단: {}", describeModes(modes));
+            return rankedCandidates;
+        }
+        
+        int refinableCount = trafficAwareCandidateRefiner.refinableCount(
+                rankedCandidates.size(), refinedParticipants.size());
+        if (refinableCount == 0) {
+            log.warn("외부 호출 예산 부족으로 실시간 교통 반영 생략 - 참여자: {}", refinedParticipants.size());
+            return rankedCandidates;
+        }
+        
+        List<OptimalLocation> targets = rankedCandidates.subList(0, refinableCount);
+        double[][] realTimeTravelTimes = trafficAwareCandidateRefiner.fetchTravelTimes(
+                refinedParticipants.stream().map(participants::get).collect(Collectors.toList()),
+                targets.stream().map(OptimalLocation::getLocation).collect(Collectors.toList()),
+                modes[refinedParticipants.get(0)], requestStartMillis);
         
-        double latDistance = Math.toRadians(point2.getLatitude() - point1.getLatitude());
-        double lonDistance = Math.toRadians(point2.getLongitude() - point1.getLongitude());
+        // 실시간 결과가 도착한 후보지점만 이동시간 행렬로 구성
+        List<Integer> slots = new ArrayList<>(refinableCount);
+        for (int c = 0; c < refinableCount; c++) {
+            if (realTimeTravelTimes[c] != null) {
+                slots.add(c);
+            }
+        }
+        if (slots.isEmpty()) {
+            return rankedCandidates;
+        }
+        
+        TravelTimeMatrix matrix = new TravelTimeMatrix(participantCount, slots.size());
+        List<OptimalLocation> refinedTargets = new ArrayList<>(slots.size());
+        for (int k = 0; k < slots.size(); k++) {
+            OptimalLocation target = targets.get(slots.get(k));
+            double[] realTime = realTimeTravelTimes[slots.get(k)];
+            for (int i = 0; i < participantCount; i++) {
+                matrix.set(i, k, target.getTravelTimes()[i]);
+            }
+            for (int j = 0; j < refinedParticipants.size(); j++) {
+                if (!Double.isNaN(realTime[j])) {
+                    matrix.set(refinedParticipants.get(j), k, realTime[j]);
+                }
+            }
+            refinedTargets.add(target);
+        }
+        
+        List<OptimalLocation> rescored = calculateScoresForCandidates(refinedTargets, matrix).stream()
+                .map(candidate -> candidate.toBuilder().realTimeTraffic(true).build())
+                .sorted(Comparator.comparingDouble(OptimalLocation::getOverallScore).reversed())
+                .collect(Collectors.toList());
         
-        double a = Math.sin(latDistance / 2) * Math.sin(latDistance / 2)
-                + Math.cos(Math.toRadians(point1.getLatitude())) 
-                * Math.cos(Math.toRadians(point2.getLatitude()))
-                * Math.sin(lonDistance / 2) * Math.sin(lonDistance / 2);
+        List<OptimalLocation> result = new ArrayList<>(rankedCandidates);
+        for (int k = 0; k < slots.size(); k++) {
+            result.set(slots.get(k), rescored.get(k));
+        }
+        return result;
+    }
+    
+    /**
+     * 후보지점들의 점수 계산
+     * 이동시간 행렬에서 후보지점별 참여자 이동시간을 읽으면서 합계/제곱합/최소/최대를 한 번에 누적하고,
+     * 후보지점별 특성 값을 한 배열에 모은 뒤 점수 모델로 종합 점수를 일괄 계산한다
+     */
+    private List<OptimalLocation> calculateScoresForCandidates(
+            List<OptimalLocation> candidates,
+            TravelTimeMatrix matrix) {
+        
+        int participantCount = matrix.getOriginCount();
+        int candidateCount = candidates.size();
+        List<OptimalLocation.OptimalLocationBuilder> builders = new ArrayList<>(candidateCount);
+        double[] features = new double[candidateCount * ScoringModel.FEATURE_COUNT];
+        // 공평성 점수 계산용 정렬 버퍼 (후보지점마다 재사용)
+        double[] sortScratch = new double[participantCount];
+        
+        for (int c = 0; c < candidateCount; c++) {
+            LocationPoint location = candidates.get(c).getLocation();
+            
+            // 각 출발지에서의 이동시간 (분)
+            double[] travelTimes = new double[participantCount];
+            matrix.copyRow(c, travelTimes);
+            
+            double totalTravelTime = 0.0;
+            double totalSquared = 0.0;
+            double minTravelTime = Double.MAX_VALUE;
+            double maxTravelTime = 0.0;
+            
+            for (int i = 0; i < participantCount; i++) {
+                double travelTime = travelTimes[i];
                 
-        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+                totalTravelTime += travelTime;
+                totalSquared += travelTime * travelTime;
+                minTravelTime = Math.min(minTravelTime, travelTime);
+                maxTravelTime = Math.max(maxTravelTime, travelTime);
+            }
+            
+            double averageTravelTime = totalTravelTime / participantCount;
+            double variance = Math.max(0.0, totalSquared / participantCount - averageTravelTime * averageTravelTime);
+            double maxMinRatio = maxTravelTime / Math.max(minTravelTime, MIN_TRAVEL_TIME_MINUTES);
+            double fairnessScore = calculateFairnessScore(travelTimes, averageTravelTime, sortScratch);
+            
+            // 상업지역 점수 계산 (기존 휴리스틱)
+            double commercialScore = calculateCommercialScore(location);
+            
+            // 점수 모델 특성 (이동시간이 짧을수록 높은 점수)
+            int offset = c * ScoringModel.FEATURE_COUNT;
+            features[offset + TRAVEL_TIME_FEATURE] = Math.max(0, 100 - totalTravelTime * 2);
+            features[offset + COMMERCIAL_FEATURE] = commercialScore;
+            features[offset + FAIRNESS_FEATURE] = fairnessScore;
+            
+            builders.add(OptimalLocation.builder()
+                    .location(location)
+                    .travelTimes(travelTimes)
+                    .averageTravelTime(averageTravelTime)
+                    .travelTimeVariance(variance)
+                    .maxMinRatio(maxMinRatio)
+                    .fairnessScore(fairnessScore)
+                    .commercialScore(commercialScore));
+        }
+        
+        // 종합 점수 일괄 계산
+        double[] overallScores = new double[candidateCount];
+        scoringModel.scoreAll(features, candidateCount, overallScores);
         
-        return R * c * 1000; // Convert to meters
+        List<OptimalLocation> scoredCandidates = new ArrayList<>(candidateCount);
+        for (int c = 0; c < candidateCount; c++) {
+            scoredCandidates.add(builders.get(c).overallScore(overallScores[c]).build());
+        }
+        
+        return scoredCandidates;
+    }
+    
+    /**
+     * 공평성 점수 계산 (0-100점)
+     * 참여자별 이동시간의 지니계수 G를 구해 (1 - G) × 100으로 환산. 모두 같은 시간이면 100점
+     * 한 번 정렬한 뒤 순위 가중합으로 계산한다 (O(n log n))
+     *
+     * @param sortScratch 정렬 버퍼 (참여자 수 이상, 이동시간 배열은 변경하지 않음)
+     */
+    private double calculateFairnessScore(double[] travelTimes, double averageTravelTime, double[] sortScratch) {
+        int count = travelTimes.length;
+        if (count < 2 || averageTravelTime <= 0.0) {
+            return 100.0;
+        }
+        
+        System.arraycopy(travelTimes, 0, sortScratch, 0, count);
+        Arrays.sort(sortScratch, 0, count);
+        
+        // 오름차순 k번째(1부터) 값은 앞의 k-1개보다 크고 뒤의 n-k개보다 작으므로 Σ_{i<j}|xi - xj| = Σ(2k - n - 1)·x(k)
+        double absoluteDifferenceSum = 0.0;
+        for (int k = 0; k < count; k++) {
+            absoluteDifferenceSum += (2.0 * k - count + 1) * sortScratch[k];
+        }
+        
+        // G = Σ|xi - xj| / (2n²μ), 위에서는 i<j 쌍만 더했으므로 2배를 상쇄
+        double gini = absoluteDifferenceSum / ((double) count * count * averageTravelTime);
+        return Math.max(0.0, (1.0 - gini) * 100.0);
     }
     
     /**
@@ -286,37 +1121,8 @@ public class MiddlePointCalculator {
      * 상업지역 점수 계산 (개선된 휴리스틱) - GPT 보완용
      */
     private double calculateCommercialScore(LocationPoint location) {
-        // 서울 주요 상권들의 좌표와 가중치
-        Map<String, CommercialArea> majorAreas = Map.of(
-            "강남역", new CommercialArea(37.4979, 127.0276, 100), // 최고 상업지역
-            "홍대입구", new CommercialArea(37.5563, 126.9236, 95),
-            "명동", new CommercialArea(37.5636, 126.9834, 90),
-            "신촌", new CommercialArea(37.5559, 126.9364, 85),
-            "건대입구", new CommercialArea(37.5403, 127.0695, 80),
-            "이태원", new CommercialArea(37.5339, 126.9947, 75),
-            "종로3가", new CommercialArea(37.5703, 126.9910, 70),
-            "신림", new CommercialArea(37.4842, 126.9292, 65),
-            "잠실", new CommercialArea(37.5133, 127.1028, 75),
-            "구로디지털단지", new CommercialArea(37.4851, 126.8977, 60)
-        );
-        
-        // 각 상권과의 거리 기반 점수 계산
-        double maxScore = majorAreas.entrySet().stream()
-                .mapToDouble(entry -> {
-                    CommercialArea area = entry.getValue();
-                    LocationPoint areaPoint = LocationPoint.builder()
-                            .latitude(area.latitude)
-                            .longitude(area.longitude)
-                            .build();
-                    
-                    double distance = calculateDistance(location, areaPoint);
-                    
-                    // 거리별 점수 감소 (1km 이내 최대 점수, 5km 이후 최소 점수)
-                    double distanceScore = Math.max(0, 1 - (distance / 5000)); // 5km에서 0점
-                    return area.weight * distanceScore;
-                })
-                .max()
-                .orElse(0.0);
+        // 상권 인덱스에서 반경 5km 내 상권들의 거리 기반 최고 점수 조회
+        double maxScore = commercialAreaIndex.maxWeightedScore(location.getLatitude(), location.getLongitude());
         
         // 기본 점수 추가 (어느 지역이든 최소한의 편의시설은 있다고 가정)
         return Math.max(maxScore, 20.0) + getRegionBonus(location);
@@ -343,40 +1149,17 @@ public class MiddlePointCalculator {
         return 0.0;
     }
     
-    // 상업지역 정보를 담는 내부 클래스
-    private static class CommercialArea {
-        final double latitude;
-        final double longitude; 
-        final double weight; // 상업지역 가중치 (0-100)
-        
-        CommercialArea(double latitude, double longitude, double weight) {
-            this.latitude = latitude;
-            this.longitude = longitude;
-            this.weight = weight;
-        }
-    }
-    
-    /**
-     * 종합 점수 계산
-     */
-    private double calculateOverallScore(double travelTime, double commercialScore) {
-        // 이동시간이 짧을수록 높은 점수 (60% 가중치)
-        double timeScore = Math.max(0, 100 - travelTime * 2) * 0.6;
-        
-        // 상업지역 점수 (40% 가중치)  
-        double commercialWeight = commercialScore * 0.4;
-        
-        return timeScore + commercialWeight;
-    }
-    
     /**
      * 응답 객체 생성
      */
     private MiddlePointResponse buildResponse(
             List<OptimalLocation> candidates,
             int participantCount,
-            TransportationType transportationType,
-            long calculationTime) {
+            String transportation,
+            long calculationTime,
+            String algorithm,
+            int realTimeCandidateCount,
+            double pruneRatio) {
             
         if (candidates.isEmpty()) {
             throw new BusinessException(ErrorCode.LOCATION_CALCULATION_FAILED);
@@ -385,34 +1168,25 @@ public class MiddlePointCalculator {
         OptimalLocation best = candidates.get(0);
         
         // 최적 지점
-        MiddlePointResponse.LocationPoint optimalLocation = MiddlePointResponse.LocationPoint.builder()
-                .latitude(best.getLocation().getLatitude())
-                .longitude(best.getLocation().getLongitude())
-                .address(best.getLocation().getAddress())
-                .averageTravelTime(best.getAverageTravelTime())
-                .commercialScore(best.getCommercialScore())
-                .overallScore(best.getOverallScore())
-                .build();
+        MiddlePointResponse.LocationPoint optimalLocation = toResponsePoint(best);
         
         // 후보 지점들
         List<MiddlePointResponse.LocationPoint> candidateLocations = candidates.stream()
-                .map(candidate -> MiddlePointResponse.LocationPoint.builder()
-                        .latitude(candidate.getLocation().getLatitude())
-                        .longitude(candidate.getLocation().getLongitude())
-                        .address(candidate.getLocation().getAddress())
-                        .averageTravelTime(candidate.getAverageTravelTime())
-                        .commercialScore(candidate.getCommercialScore())
-                        .overallScore(candidate.getOverallScore())
-                        .build())
+                .map(this::toResponsePoint)
                 .collect(Collectors.toList());
         
         // 계산 정보
         MiddlePointResponse.CalculationInfo calculationInfo = MiddlePointResponse.CalculationInfo.builder()
                 .totalParticipants(participantCount)
-                .transportationType(transportationType.getDescription())
+                .transportationType(transportation)
                 .calculationTimeMs(calculationTime)
-                .algorithm("기하학적 중심점 + 격자 탐색")
-                .fairnessScore(calculateFairnessScore(best))
+                .algorithm(algorithm)
+                .fairnessScore(best.getFairnessScore())
+                .travelTimeVariance(best.getTravelTimeVariance())
+                .maxMinTravelTimeRatio(best.getMaxMinRatio())
+                .realTimeTrafficCandidates(realTimeCandidateCount)
+                .pruneRatio(pruneRatio)
+                .cached(false)
                 .build();
         
         return MiddlePointResponse.builder()
@@ -422,21 +1196,57 @@ public class MiddlePointCalculator {
                 .build();
     }
     
-    private Double calculateFairnessScore(OptimalLocation location) {
-        // 공평성 점수 계산 로직 (0-100점)
-        // 실제로는 각 참여자의 이동시간 편차를 기반으로 계산
-        return 85.0; // 임시값
+    /**
+     * 응답용 지점 정보 변환
+     */
+    private MiddlePointResponse.LocationPoint toResponsePoint(OptimalLocation candidate) {
+        return MiddlePointResponse.LocationPoint.builder()
+                .latitude(candidate.getLocation().getLatitude())
+                .longitude(candidate.getLocation().getLongitude())
+                .address(candidate.getLocation().getAddress())
+                .averageTravelTime(candidate.getAverageTravelTime())
+                .fairnessScore(candidate.getFairnessScore())
+                .commercialScore(candidate.getCommercialScore())
+                .overallScore(candidate.getOverallScore())
+                .build();
+    }
+    
+    /**
+     * 순위가 결정된 후보지점 (주소 조회 전)
+     */
+    @lombok.Builder
+    @lombok.Getter
+    private static class RankedCandidates {
+        private MiddlePointResponse cachedResponse; // 캐시 적중 시에만 설정
+        private String cacheKey;
+        private List<OptimalLocation> topCandidates;
+        private String algorithm;
+        private int realTimeCandidateCount;
+        private double pruneRatio; // 이동시간 계산 없이 제외된 후보지점 비율
+        private String transportation; // 응답 표시용 교통수단 (참여자별 교통수단이 다르면 혼합)
+        
+        List<LocationPoint> locations() {
+            return topCandidates.stream()
+                    .map(OptimalLocation::getLocation)
+                    .collect(Collectors.toList());
+        }
     }
     
     /**
      * 최적화된 위치 정보를 담는 내부 클래스
      */
-    @lombok.Builder
+    @lombok.Builder(toBuilder = true)
     @lombok.Getter
     private static class OptimalLocation {
         private LocationPoint location;
+        private double[] travelTimes; // 참여자별 이동시간 (분, 출발지 순서)
         private Double averageTravelTime;
+        private Double travelTimeVariance;
+        private Double maxMinRatio;
+        private Double fairnessScore;
         private Double commercialScore;
         private Double overallScore;
+        private boolean realTimeTraffic; // 실시간 교통 반영 여부
+        private boolean pruned; // 점수 상한으로 제외됨 (overallScore는 상한값)
     }
 }
\ No newline at end of file
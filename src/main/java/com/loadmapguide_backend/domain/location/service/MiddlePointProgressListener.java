@@ -0,0 +1,18 @@
+package com.loadmapguide_backend.domain.location.service;
+
+import com.loadmapguide_backend.domain.location.dto.MiddlePointResponse;
+
+/**
+ * 중간지점 계산 진행 상황 수신
+ * 후보지점이 점수화될 때마다 계산 스레드에서 호출되므로 구현체는 오래 걸리는 작업을 하지 않아야 한다.
+ */
+@FunctionalInterface
+public interface MiddlePointProgressListener {
+    
+    MiddlePointProgressListener NONE = candidate -> { };
+    
+    /**
+     * 후보지점 점수화 완료 (주소는 좌표 표시, 최종 순위와 무관)
+     */
+    void onCandidateScored(MiddlePointResponse.LocationPoint candidate);
+}
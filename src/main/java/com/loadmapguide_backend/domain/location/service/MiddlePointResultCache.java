@@ -0,0 +1,126 @@
+package com.loadmapguide_backend.domain.location.service;
+
+import com.loadmapguide_backend.domain.location.dto.MiddlePointResponse;
+import com.loadmapguide_backend.domain.location.entity.LocationPoint;
+import com.loadmapguide_backend.global.common.enums.MidpointStrategyType;
+import com.loadmapguide_backend.global.common.enums.TransportationType;
+import com.loadmapguide_backend.global.common.enums.TravelTimeSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+
+/**
+ * 중간지점 계산 결과 캐시
+ * 참여자 좌표를 일정 간격(기본 약 50m) 격자로 양자화하고 정렬해 키를 만들므로,
+ * 입력 순서가 다르거나 좌표가 조금 다른 같은 모임의 반복 요청도 같은 결과를 사용한다.
+ * 참여자별 이동시간 계산 방식과 점수 프로필도 키에 포함하므로, 설정이 다른 노드끼리 캐시를 공유해도 서로의 결과를 쓰지 않는다.
+ */
+@Slf4j
+@Component
+public class MiddlePointResultCache {
+    
+    private static final String CACHE_NAME = "middlePoints";
+    private static final double METERS_PER_LAT_DEGREE = 111_320.0;
+    private static final String DEFAULT_PROFILE = "default";
+    
+    private final Cache cache;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final double latStepDegrees;
+    
+    public MiddlePointResultCache(
+            CacheManager cacheManager,
+            MeterRegistry meterRegistry,
+            @Value("${middle-point.result-cache.enabled:true}") boolean enabled,
+            @Value("${middle-point.result-cache.precision-meters:50}") double precisionMeters) {
+        this.cache = cacheManager.getCache(CACHE_NAME);
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled && cache != null;
+        this.latStepDegrees = precisionMeters / METERS_PER_LAT_DEGREE;
+        
+        if (enabled && cache == null) {
+            log.warn("중간지점 결과 캐시 영역이 없어 캐싱을 사용하지 않습니다: {}", CACHE_NAME);
+        }
+    }
+    
+    /**
+     * 캐시 키 생성 (캐시 미사용 시 null)
+     * 점수 프로필:교통수단:계산전략:정렬된 참여자 격자 좌표(참여자 교통수단, 이동시간 계산 방식) 목록
+     *
+     * @param modes          참여자별 교통수단 (참여자 순서, 요청 전체 교통수단과 같아도 키에 포함)
+     * @param sources        참여자별 이동시간 계산 방식 (참여자 순서)
+     * @param scoringProfile 점수 모델 프로필 (null이면 기본 가중치)
+     */
+    public String createKey(double[] latitudes, double[] longitudes, int count,
+                            TransportationType transportationType, TransportationType[] modes,
+                            MidpointStrategyType strategyType,
+                            TravelTimeSource[] sources, String scoringProfile) {
+        if (!enabled) {
+            return null;
+        }
+        
+        long[][] cells = new long[count][];
+        for (int i = 0; i < count; i++) {
+            long latCell = (long) Math.floor(latitudes[i] / latStepDegrees);
+            // 경도 간격은 격자 위도 기준으로 실제 거리가 같도록 조정 (같은 격자 위도면 같은 간격)
+            double lngStepDegrees = latStepDegrees / Math.cos(Math.toRadians(latCell * latStepDegrees));
+            long lngCell = (long) Math.floor(longitudes[i] / lngStepDegrees);
+            cells[i] = new long[]{latCell, lngCell, modes[i].ordinal(), sources[i].ordinal()};
+        }
+        
+        // 참여자 순서와 무관하도록 (위도 격자, 경도 격자, 교통수단, 계산 방식) 순으로 정렬
+        Arrays.sort(cells, Arrays::compare);
+        
+        StringBuilder key = new StringBuilder(64 + count * 20)
+                .append(scoringProfile != null ? scoringProfile : DEFAULT_PROFILE).append(':')
+                .append(transportationType.name()).append(':')
+                .append(strategyType.name());
+        for (long[] cell : cells) {
+            key.append(':').append(cell[0]).append(',').append(cell[1]).append(',').append(cell[2])
+                    .append(',').append(cell[3]);
+        }
+        return key.toString();
+    }
+    
+    /**
+     * 캐시 조회 (교통수단별 적중/미적중 집계)
+     */
+    public MiddlePointResponse get(String key, TransportationType transportationType) {
+        if (key == null) {
+            return null;
+        }
+        
+        MiddlePointResponse cached = null;
+        try {
+            cached = cache.get(key, MiddlePointResponse.class);
+        } catch (RuntimeException e) {
+            log.warn("중간지점 결과 캐시 조회 실패, 새로 계산: {}", e.getMessage());
+        }
+        
+        meterRegistry.counter("middle_point.result_cache.requests",
+                "result", cached != null ? "hit" : "miss",
+                "transportation", transportationType.name()).increment();
+        
+        if (cached != null) {
+            log.debug("중간지점 결과 캐시 적중 - 교통수단: {}", transportationType);
+        }
+        return cached;
+    }
+    
+    public void put(String key, MiddlePointResponse response) {
+        if (key == null) {
+            return;
+        }
+        
+        try {
+            cache.put(key, response);
+        } catch (RuntimeException e) {
+            log.warn("중간지점 결과 캐시 저장 실패: {}", e.getMessage());
+        }
+    }
+}
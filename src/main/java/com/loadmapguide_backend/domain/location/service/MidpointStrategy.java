@@ -0,0 +1,35 @@
+package com.loadmapguide_backend.domain.location.service;
+
+import com.loadmapguide_backend.global.common.enums.MidpointStrategyType;
+
+/**
+ * 중간지점 계산 전략
+ * 참여자 좌표 배열로부터 후보 탐색의 시작점을 계산한다.
+ * 반복 계산 구현체는 요청마다 호출되므로 내부에서 객체를 할당하지 않도록 작성한다.
+ */
+public interface MidpointStrategy {
+    
+    MidpointStrategyType getType();
+    
+    /**
+     * 중간지점 계산
+     *
+     * @param latitudes  참여자 위도 배열
+     * @param longitudes 참여자 경도 배열
+     * @param count      유효한 참여자 수 (배열 앞쪽부터)
+     * @param result     계산 결과 저장 배열 ([0] 위도, [1] 경도)
+     */
+    void calculate(double[] latitudes, double[] longitudes, int count, double[] result);
+    
+    /**
+     * 위도 평균의 코사인 (경도 1도의 상대 길이)
+     * 서울 규모에서는 평면 근사로 충분하므로 경도에 이 값을 곱해 거리 계산에 사용한다
+     */
+    static double longitudeScale(double[] latitudes, int count) {
+        double sum = 0.0;
+        for (int i = 0; i < count; i++) {
+            sum += latitudes[i];
+        }
+        return Math.cos(Math.toRadians(sum / count));
+    }
+}
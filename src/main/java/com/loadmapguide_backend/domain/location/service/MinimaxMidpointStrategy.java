@@ -0,0 +1,50 @@
+package com.loadmapguide_backend.domain.location.service;
+
+import com.loadmapguide_backend.global.common.enums.MidpointStrategyType;
+import org.springframework.stereotype.Component;
+
+/**
+ * 최대거리 최소점 (최소 포함원 중심 근사)
+ * 가장 멀리서 오는 참여자의 거리가 최소가 되는 지점.
+ * Bădoiu–Clarkson 반복: 매 단계 가장 먼 참여자 쪽으로 1/(k+1)만큼 이동한다.
+ */
+@Component
+public class MinimaxMidpointStrategy implements MidpointStrategy {
+    
+    private static final int ITERATIONS = 1000; // 오차 약 1/sqrt(ITERATIONS) × 반경
+    
+    @Override
+    public MidpointStrategyType getType() {
+        return MidpointStrategyType.MINIMAX;
+    }
+    
+    @Override
+    public void calculate(double[] latitudes, double[] longitudes, int count, double[] result) {
+        double scale = MidpointStrategy.longitudeScale(latitudes, count);
+        
+        double lat = latitudes[0];
+        double lng = longitudes[0];
+        
+        for (int k = 1; k <= ITERATIONS; k++) {
+            // 현재 지점에서 가장 먼 참여자 탐색
+            int farthest = 0;
+            double maxDistanceSq = -1.0;
+            for (int i = 0; i < count; i++) {
+                double dLat = latitudes[i] - lat;
+                double dLng = (longitudes[i] - lng) * scale;
+                double distanceSq = dLat * dLat + dLng * dLng;
+                if (distanceSq > maxDistanceSq) {
+                    maxDistanceSq = distanceSq;
+                    farthest = i;
+                }
+            }
+            
+            double ratio = 1.0 / (k + 1);
+            lat += (latitudes[farthest] - lat) * ratio;
+            lng += (longitudes[farthest] - lng) * ratio;
+        }
+        
+        result[0] = lat;
+        result[1] = lng;
+    }
+}
@@ -0,0 +1,97 @@
+package com.loadmapguide_backend.domain.location.service;
+
+import com.loadmapguide_backend.global.common.enums.TransportationType;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 출발지-목적지 쌍 단위로 이동시간을 조회하는 행렬 계산기의 공통 처리
+ * 같은 좌표(약 1m 이내)의 출발지/목적지를 하나로 합쳐 고유한 쌍만 조회한 뒤 원래 행렬로 펼친다.
+ */
+public abstract class PairwiseTravelTimeMatrixProvider implements TravelTimeMatrixProvider {
+    
+    private static final double KEY_SCALE = 100_000; // 1e-5도 (약 1m)
+    
+    @Override
+    public TravelTimeMatrix compute(double[] originLatitudes, double[] originLongitudes, int originCount,
+                                    double[] destinationLatitudes, double[] destinationLongitudes, int destinationCount,
+                                    TransportationType transportationType) {
+        return compute(originLatitudes, originLongitudes, originCount,
+                destinationLatitudes, destinationLongitudes, destinationCount, transportationType, newBudget());
+    }
+    
+    @Override
+    public TravelTimeMatrix compute(double[] originLatitudes, double[] originLongitudes, int originCount,
+                                    double[] destinationLatitudes, double[] destinationLongitudes, int destinationCount,
+                                    TransportationType transportationType, TravelTimeBudget budget) {
+        
+        // 1. 중복 좌표 제거 (원래 인덱스 -> 고유 인덱스)
+        int[] originSlots = new int[originCount];
+        double[][] origins = deduplicate(originLatitudes, originLongitudes, originCount, originSlots);
+        int[] destinationSlots = new int[destinationCount];
+        double[][] destinations = deduplicate(destinationLatitudes, destinationLongitudes, destinationCount, destinationSlots);
+        
+        // 2. 고유한 쌍만 조회
+        TravelTimeMatrix unique = computeUnique(
+                origins[0], origins[1], origins[0].length,
+                destinations[0], destinations[1], destinations[0].length,
+                transportationType, budget);
+        
+        // 3. 원래 행렬로 펼치기
+        if (unique.getOriginCount() == originCount && unique.getDestinationCount() == destinationCount) {
+            return unique;
+        }
+        TravelTimeMatrix matrix = new TravelTimeMatrix(originCount, destinationCount);
+        for (int d = 0; d < destinationCount; d++) {
+            for (int o = 0; o < originCount; o++) {
+                matrix.set(o, d, unique.get(originSlots[o], destinationSlots[d]));
+            }
+        }
+        return matrix;
+    }
+    
+    /**
+     * 중복이 제거된 출발지/목적지에 대한 이동시간 행렬 계산
+     *
+     * @param budget 요청 단위 조회 예산 (외부 조회 시 예약 후 사용)
+     */
+    protected abstract TravelTimeMatrix computeUnique(
+            double[] originLatitudes, double[] originLongitudes, int originCount,
+            double[] destinationLatitudes, double[] destinationLongitudes, int destinationCount,
+            TransportationType transportationType, TravelTimeBudget budget);
+    
+    /**
+     * 좌표 중복 제거
+     *
+     * @param slots 원래 인덱스별 고유 좌표 인덱스 저장 배열
+     * @return [0] 고유 위도 배열, [1] 고유 경도 배열
+     */
+    private static double[][] deduplicate(double[] latitudes, double[] longitudes, int count, int[] slots) {
+        Map<Long, Integer> index = new HashMap<>();
+        double[] uniqueLats = new double[count];
+        double[] uniqueLngs = new double[count];
+        int uniqueCount = 0;
+        
+        for (int i = 0; i < count; i++) {
+            long key = (Math.round(latitudes[i] * KEY_SCALE) << 32) | (Math.round(longitudes[i] * KEY_SCALE) & 0xFFFFFFFFL);
+            Integer slot = index.get(key);
+            if (slot == null) {
+                slot = uniqueCount++;
+                index.put(key, slot);
+                uniqueLats[slot] = latitudes[i];
+                uniqueLngs[slot] = longitudes[i];
+            }
+            slots[i] = slot;
+        }
+        
+        if (uniqueCount == count) {
+            return new double[][]{uniqueLats, uniqueLngs};
+        }
+        return new double[][]{
+                Arrays.copyOf(uniqueLats, uniqueCount),
+                Arrays.copyOf(uniqueLngs, uniqueCount)
+        };
+    }
+}
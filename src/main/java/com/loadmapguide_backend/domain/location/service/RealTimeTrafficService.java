@@ -3,6 +3,7 @@ package com.loadmapguide_backend.domain.location.service;
 import com.loadmapguide_backend.domain.location.dto.LocationRequest;
 import com.loadmapguide_backend.domain.location.dto.RealTimeRouteResponse;
 import com.loadmapguide_backend.global.common.enums.TransportationType;
+import com.loadmapguide_backend.global.common.util.GeoUtils;
 import com.loadmapguide_backend.global.external.kakao.KakaoMapApiClient;
 import com.loadmapguide_backend.global.external.kakao.dto.KakaoDirectionResponse;
 import lombok.RequiredArgsConstructor;
@@ -138,7 +139,7 @@ public class RealTimeTrafficService {
             );
             
             // 직선거리 계산
-            double distance = calculateDistance(origin.getLatitude(), origin.getLongitude(), destLat, destLng);
+            double distance = GeoUtils.haversineMeters(origin.getLatitude(), origin.getLongitude(), destLat, destLng);
             
             return RealTimeRouteResponse.builder()
                     .originAddress(origin.getAddress())
@@ -171,7 +172,7 @@ public class RealTimeTrafficService {
                     destLng, destLat
             );
             
-            double distance = calculateDistance(origin.getLatitude(), origin.getLongitude(), destLat, destLng);
+            double distance = GeoUtils.haversineMeters(origin.getLatitude(), origin.getLongitude(), destLat, destLng);
             
             return RealTimeRouteResponse.builder()
                     .originAddress(origin.getAddress())
@@ -198,7 +199,7 @@ public class RealTimeTrafficService {
      * 자동차 경로 추정값 생성 (API 실패시 사용)
      */
     private RealTimeRouteResponse createEstimatedCarRoute(LocationRequest origin, Double destLat, Double destLng) {
-        double distance = calculateDistance(origin.getLatitude(), origin.getLongitude(), destLat, destLng);
+        double distance = GeoUtils.haversineMeters(origin.getLatitude(), origin.getLongitude(), destLat, destLng);
         // 평균 속도 40km/h로 가정
         int estimatedMinutes = (int) Math.max(5, (distance / 1000.0) * 1.5);
         
@@ -274,24 +275,6 @@ public class RealTimeTrafficService {
         return (int) Math.max(1000, fuelCost);
     }
     
-    /**
-     * 두 좌표 간 직선거리 계산
-     */
-    private double calculateDistance(double lat1, double lon1, double lat2, double lon2) {
-        final int R = 6371; // 지구 반지름 (km)
-        
-        double latDistance = Math.toRadians(lat2 - lat1);
-        double lonDistance = Math.toRadians(lon2 - lon1);
-        
-        double a = Math.sin(latDistance / 2) * Math.sin(latDistance / 2)
-                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
-                * Math.sin(lonDistance / 2) * Math.sin(lonDistance / 2);
-                
-        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
-        
-        return R * c * 1000; // 미터로 변환
-    }
-    
     /**
      * 교통수단별 평균 이동시간 계산 (기존 MiddlePointCalculator와 연동)
      */
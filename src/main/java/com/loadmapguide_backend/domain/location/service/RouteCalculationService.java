@@ -2,6 +2,7 @@ package com.loadmapguide_backend.domain.location.service;
 
 import com.loadmapguide_backend.domain.location.entity.LocationPoint;
 import com.loadmapguide_backend.global.common.enums.TransportationType;
+import com.loadmapguide_backend.global.common.util.GeoUtils;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -73,23 +74,20 @@ public class RouteCalculationService {
                 .toList();
     }
     
+    /**
+     * 거리 기준 교통수단별 예상 이동시간 (분, 캐시 미사용)
+     * 대량 사전 계산에서 경로 정보 객체와 캐시 항목을 만들지 않고 이동시간만 필요할 때 사용
+     */
+    public int estimateTravelTimeMinutes(double distanceMeters, TransportationType transportationType) {
+        return calculateTravelTime(distanceMeters, transportationType).getTravelTimeMinutes();
+    }
+    
     /**
      * 두 지점 간 직선 거리 계산 (Haversine formula)
      */
     private double calculateDistance(LocationPoint point1, LocationPoint point2) {
-        final int R = 6371; // Earth's radius in km
-        
-        double latDistance = Math.toRadians(point2.getLatitude() - point1.getLatitude());
-        double lonDistance = Math.toRadians(point2.getLongitude() - point1.getLongitude());
-        
-        double a = Math.sin(latDistance / 2) * Math.sin(latDistance / 2)
-                + Math.cos(Math.toRadians(point1.getLatitude())) 
-                * Math.cos(Math.toRadians(point2.getLatitude()))
-                * Math.sin(lonDistance / 2) * Math.sin(lonDistance / 2);
-                
-        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
-        
-        return R * c * 1000; // Convert to meters
+        return GeoUtils.haversineMeters(point1.getLatitude(), point1.getLongitude(),
+                point2.getLatitude(), point2.getLongitude());
     }
     
     /**
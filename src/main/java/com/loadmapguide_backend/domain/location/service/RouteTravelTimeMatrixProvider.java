@@ -0,0 +1,45 @@
+package com.loadmapguide_backend.domain.location.service;
+
+import com.loadmapguide_backend.global.common.enums.TransportationType;
+import com.loadmapguide_backend.global.common.enums.TravelTimeSource;
+import com.loadmapguide_backend.global.common.util.GeoUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 경로 계산 서비스 기반 이동시간 행렬
+ * 교통수단별 경로 추정(환승, 도로 속도 반영)을 거리만으로 계산한다.
+ * 출발지마다 후보지점 전체 거리를 한 번에 구하고, 쌍마다 경로 정보 객체나 캐시 항목은 만들지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RouteTravelTimeMatrixProvider implements TravelTimeMatrixProvider {
+    
+    private final RouteCalculationService routeCalculationService;
+    
+    @Override
+    public TravelTimeSource getSource() {
+        return TravelTimeSource.ROUTE_ESTIMATE;
+    }
+    
+    @Override
+    public TravelTimeMatrix compute(double[] originLatitudes, double[] originLongitudes, int originCount,
+                                    double[] destinationLatitudes, double[] destinationLongitudes, int destinationCount,
+                                    TransportationType transportationType) {
+        
+        double[] latitudesRad = new double[destinationCount];
+        double[] cosLatitudes = new double[destinationCount];
+        GeoUtils.precompute(destinationLatitudes, destinationCount, latitudesRad, cosLatitudes);
+        
+        TravelTimeMatrix matrix = new TravelTimeMatrix(originCount, destinationCount);
+        double[] distances = new double[destinationCount];
+        for (int o = 0; o < originCount; o++) {
+            GeoUtils.haversineMetersBatch(originLatitudes[o], originLongitudes[o],
+                    latitudesRad, cosLatitudes, destinationLongitudes, destinationCount, distances);
+            for (int d = 0; d < destinationCount; d++) {
+                matrix.set(o, d, routeCalculationService.estimateTravelTimeMinutes(distances[d], transportationType));
+            }
+        }
+        return matrix;
+    }
+}
@@ -0,0 +1,68 @@
+package com.loadmapguide_backend.domain.location.service;
+
+import com.loadmapguide_backend.global.common.enums.TransportationType;
+import com.loadmapguide_backend.global.common.enums.TravelTimeSource;
+import com.loadmapguide_backend.global.common.util.GeoUtils;
+import org.springframework.stereotype.Component;
+
+/**
+ * 직선거리 기반 이동시간 행렬
+ * 출발지 위도의 라디안/코사인을 한 번만 계산하고 목적지마다 거리를 일괄 계산한다.
+ */
+@Component
+public class StraightLineTravelTimeMatrixProvider implements TravelTimeMatrixProvider {
+    
+    @Override
+    public TravelTimeSource getSource() {
+        return TravelTimeSource.STRAIGHT_LINE;
+    }
+    
+    @Override
+    public TravelTimeMatrix compute(double[] originLatitudes, double[] originLongitudes, int originCount,
+                                    double[] destinationLatitudes, double[] destinationLongitudes, int destinationCount,
+                                    TransportationType transportationType) {
+        
+        double[] latitudesRad = new double[originCount];
+        double[] cosLatitudes = new double[originCount];
+        GeoUtils.precompute(originLatitudes, originCount, latitudesRad, cosLatitudes);
+        
+        double minutesPerMeter = 60.0 / (getAverageSpeed(transportationType) * 1000.0);
+        TravelTimeMatrix matrix = new TravelTimeMatrix(originCount, destinationCount);
+        double[] minutes = matrix.getMinutes();
+        double[] distances = new double[originCount];
+        
+        for (int d = 0; d < destinationCount; d++) {
+            GeoUtils.haversineMetersBatch(destinationLatitudes[d], destinationLongitudes[d],
+                    latitudesRad, cosLatitudes, originLongitudes, originCount, distances);
+            
+            int offset = d * originCount;
+            for (int o = 0; o < originCount; o++) {
+                minutes[offset + o] = distances[o] * minutesPerMeter;
+            }
+        }
+        
+        return matrix;
+    }
+    
+    /**
+     * 두 지점 간 이동시간 추정 (분)
+     */
+    public double estimateMinutes(double originLat, double originLng, double destLat, double destLng,
+                                  TransportationType transportationType) {
+        double distance = GeoUtils.haversineMeters(originLat, originLng, destLat, destLng);
+        return (distance / 1000.0) / getAverageSpeed(transportationType) * 60;
+    }
+    
+    /**
+     * 교통수단별 평균 속도 (km/h)
+     */
+    public double getAverageSpeed(TransportationType transportationType) {
+        return switch (transportationType) {
+            case CAR -> 35.0; // km/h (서울 시내 평균)
+            case SUBWAY -> 40.0; // km/h (지하철 평균 속도, 환승시간 포함)
+            case BUS -> 20.0; // km/h (버스 평균 속도, 정류장 대기시간 포함)
+            case PUBLIC_TRANSPORT -> 25.0; // km/h (지하철+버스 혼용)
+            case WALK -> 5.0; // km/h (도보 평균)
+        };
+    }
+}
@@ -0,0 +1,80 @@
+package com.loadmapguide_backend.domain.location.service;
+
+import com.loadmapguide_backend.global.common.enums.TransportationType;
+import com.loadmapguide_backend.global.common.enums.TravelTimeSource;
+import com.loadmapguide_backend.global.common.util.GeoUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+
+/**
+ * 지하철 노선망 기반 이동시간 행렬
+ * 지하철/대중교통은 참여자마다 노선망을 한 번 탐색해 모든 역까지의 최단 시간을 구하고,
+ * 후보지점은 도보로 갈 수 있는 하차역 중 가장 빠른 경로(또는 전 구간 도보)로 계산한다.
+ * 출발지나 후보지점 근처에 역이 없거나 그 밖의 교통수단은 직선거리 추정을 사용한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SubwayGraphTravelTimeMatrixProvider implements TravelTimeMatrixProvider {
+    
+    private final SubwayNetwork subwayNetwork;
+    private final StraightLineTravelTimeMatrixProvider straightLineProvider;
+    
+    @Override
+    public TravelTimeSource getSource() {
+        return TravelTimeSource.SUBWAY_GRAPH;
+    }
+    
+    @Override
+    public TravelTimeMatrix compute(double[] originLatitudes, double[] originLongitudes, int originCount,
+                                    double[] destinationLatitudes, double[] destinationLongitudes, int destinationCount,
+                                    TransportationType transportationType) {
+        
+        boolean transit = transportationType == TransportationType.SUBWAY
+                || transportationType == TransportationType.PUBLIC_TRANSPORT;
+        if (!transit || subwayNetwork.isEmpty()) {
+            return straightLineProvider.compute(originLatitudes, originLongitudes, originCount,
+                    destinationLatitudes, destinationLongitudes, destinationCount, transportationType);
+        }
+        
+        int stationCount = subwayNetwork.size();
+        SubwayNetwork.Workspace workspace = subwayNetwork.newWorkspace();
+        
+        // 1. 후보지점별 하차역 (참여자와 무관하므로 한 번만 계산)
+        int[][] egressStations = new int[destinationCount][];
+        double[][] egressMinutes = new double[destinationCount][];
+        int[] stations = new int[stationCount];
+        double[] walk = new double[stationCount];
+        for (int d = 0; d < destinationCount; d++) {
+            int count = subwayNetwork.accessStations(
+                    destinationLatitudes[d], destinationLongitudes[d], stations, walk, workspace);
+            egressStations[d] = Arrays.copyOf(stations, count);
+            egressMinutes[d] = Arrays.copyOf(walk, count);
+        }
+        
+        // 2. 참여자마다 노선망 한 번 탐색 후 후보지점 전체 계산
+        TravelTimeMatrix matrix = new TravelTimeMatrix(originCount, destinationCount);
+        double[] stationMinutes = new double[stationCount];
+        for (int o = 0; o < originCount; o++) {
+            subwayNetwork.shortestMinutesFrom(originLatitudes[o], originLongitudes[o], stationMinutes, workspace);
+            
+            for (int d = 0; d < destinationCount; d++) {
+                double best = Double.POSITIVE_INFINITY;
+                for (int k = 0; k < egressStations[d].length; k++) {
+                    best = Math.min(best, stationMinutes[egressStations[d][k]] + egressMinutes[d][k]);
+                }
+                
+                double distance = GeoUtils.haversineMeters(originLatitudes[o], originLongitudes[o],
+                        destinationLatitudes[d], destinationLongitudes[d]);
+                double minutes = Double.isInfinite(best)
+                        ? straightLineProvider.estimateMinutes(originLatitudes[o], originLongitudes[o],
+                                destinationLatitudes[d], destinationLongitudes[d], transportationType)
+                        : Math.min(best, subwayNetwork.walkMinutes(distance));
+                matrix.set(o, d, minutes);
+            }
+        }
+        
+        return matrix;
+    }
+}
@@ -0,0 +1,362 @@
+package com.loadmapguide_backend.domain.location.service;
+
+import com.loadmapguide_backend.global.common.util.GeoUtils;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 지하철 노선망 그래프
+ * 노선 데이터 파일을 시작 시 한 번 읽어 (노선, 역)을 정점으로, 인접역 운행과 환승을 간선으로 하는 그래프를 만든다.
+ * 인접 목록은 CSR 형식의 기본형 배열로 보관하며, 한 지점에서 모든 역까지의 최단 시간을 다익스트라 한 번으로 구한다.
+ * 탐색 중 필요한 거리/접근역 배열과 힙은 호출자가 {@link #newWorkspace()}로 만들어 재사용한다 (호출마다 할당하지 않음).
+ */
+@Slf4j
+@Component
+public class SubwayNetwork {
+    
+    private static final double RIDE_SPEED_KMH = 33.0;        // 표정속도 (정차 제외)
+    private static final double DWELL_MINUTES = 0.5;          // 역 정차
+    private static final double TRANSFER_MINUTES = 4.0;       // 환승 이동 + 대기
+    private static final double BOARDING_WAIT_MINUTES = 3.0;  // 첫 승차 평균 대기 (배차 간격의 절반)
+    private static final double WALK_SPEED_KMH = 4.5;
+    private static final double WALK_DETOUR_FACTOR = 1.3;     // 직선거리 대비 실제 보행거리
+    private static final double ACCESS_RADIUS_METERS = 1500.0;
+    
+    private final ResourceLoader resourceLoader;
+    private final String dataLocation;
+    
+    // 정점 (노선별 역)
+    private double[] latitudes = new double[0];
+    private double[] longitudes = new double[0];
+    private double[] latitudesRad = new double[0];
+    private double[] cosLatitudes = new double[0];
+    
+    // 간선 (CSR 형식: adjacencyStart[v] ~ adjacencyStart[v+1])
+    private int[] adjacencyStart = new int[1];
+    private int[] adjacencyTarget = new int[0];
+    private double[] adjacencyMinutes = new double[0];
+    
+    public SubwayNetwork(
+            ResourceLoader resourceLoader,
+            @Value("${middle-point.subway-network.location:classpath:data/subway-network.csv}") String dataLocation) {
+        this.resourceLoader = resourceLoader;
+        this.dataLocation = dataLocation;
+    }
+    
+    @PostConstruct
+    public void load() {
+        List<String[]> rows = readRows();
+        if (rows.isEmpty()) {
+            log.warn("지하철 노선 데이터가 비어있습니다: {}", dataLocation);
+            return;
+        }
+        build(rows);
+        log.info("지하철 노선망 생성 완료 - 정점 {}개, 간선 {}개", size(), adjacencyTarget.length);
+    }
+    
+    public int size() {
+        return latitudes.length;
+    }
+    
+    public boolean isEmpty() {
+        return latitudes.length == 0;
+    }
+    
+    /**
+     * 도보 이동시간 (분, 직선거리 기준)
+     */
+    public double walkMinutes(double distanceMeters) {
+        return distanceMeters * WALK_DETOUR_FACTOR / (WALK_SPEED_KMH * 1000.0) * 60.0;
+    }
+    
+    /**
+     * 탐색 작업 공간 생성 (한 스레드 안에서 여러 번의 탐색에 재사용)
+     */
+    public Workspace newWorkspace() {
+        return new Workspace(size(), adjacencyTarget.length);
+    }
+    
+    /**
+     * 도보 접근 가능한 역과 도보 시간
+     *
+     * @return 접근 가능한 역 수 (stations/walkMinutes 앞쪽부터 채움, 배열 길이는 {@link #size()} 이상)
+     */
+    public int accessStations(double latitude, double longitude, int[] stations, double[] walkMinutes,
+                              Workspace workspace) {
+        double[] distances = workspace.distances;
+        GeoUtils.haversineMetersBatch(latitude, longitude, latitudesRad, cosLatitudes, longitudes, size(), distances);
+        
+        int count = 0;
+        for (int v = 0; v < size(); v++) {
+            if (distances[v] <= ACCESS_RADIUS_METERS) {
+                stations[count] = v;
+                walkMinutes[count] = walkMinutes(distances[v]);
+                count++;
+            }
+        }
+        return count;
+    }
+    
+    /**
+     * 한 지점에서 모든 정점까지의 최단 시간 (분, 도보 접근 + 첫 승차 대기 포함)
+     * 도보 접근 가능한 역들을 시작점으로 하는 다중 출발 다익스트라. 도달할 수 없는 정점은 무한대
+     */
+    public void shortestMinutesFrom(double latitude, double longitude, double[] minutes, Workspace workspace) {
+        Arrays.fill(minutes, 0, size(), Double.POSITIVE_INFINITY);
+        
+        int[] stations = workspace.stations;
+        double[] walk = workspace.walkMinutes;
+        int accessCount = accessStations(latitude, longitude, stations, walk, workspace);
+        
+        MinHeap heap = workspace.heap;
+        heap.clear();
+        for (int i = 0; i < accessCount; i++) {
+            double start = walk[i] + BOARDING_WAIT_MINUTES;
+            if (start < minutes[stations[i]]) {
+                minutes[stations[i]] = start;
+                heap.push(stations[i], start);
+            }
+        }
+        
+        while (!heap.isEmpty()) {
+            double key = heap.peekKey();
+            int v = heap.pop();
+            if (key > minutes[v]) {
+                continue; // 이미 더 짧은 경로로 확정됨
+            }
+            for (int e = adjacencyStart[v]; e < adjacencyStart[v + 1]; e++) {
+                int target = adjacencyTarget[e];
+                double candidate = key + adjacencyMinutes[e];
+                if (candidate < minutes[target]) {
+                    minutes[target] = candidate;
+                    heap.push(target, candidate);
+                }
+            }
+        }
+    }
+    
+    private List<String[]> readRows() {
+        Resource resource = resourceLoader.getResource(dataLocation);
+        List<String[]> rows = new ArrayList<>();
+        
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                
+                // line,station,latitude,longitude
+                String[] fields = line.split(",");
+                if (fields.length < 4) {
+                    log.warn("지하철 노선 데이터 형식 오류, 건너뜀: {}", line);
+                    continue;
+                }
+                rows.add(fields);
+            }
+            
+        } catch (IOException e) {
+            log.error("지하철 노선 데이터 로딩 실패: {}", dataLocation, e);
+        }
+        
+        return rows;
+    }
+    
+    private void build(List<String[]> rows) {
+        Map<String, Integer> vertexOf = new HashMap<>();
+        Map<String, List<Integer>> verticesByStation = new HashMap<>();
+        List<double[]> coordinates = new ArrayList<>();
+        List<int[]> edges = new ArrayList<>();
+        List<Double> edgeMinutes = new ArrayList<>();
+        
+        String previousLine = null;
+        int previousVertex = -1;
+        
+        for (String[] row : rows) {
+            String lineName = row[0].trim();
+            String station = row[1].trim();
+            double latitude;
+            double longitude;
+            try {
+                latitude = Double.parseDouble(row[2].trim());
+                longitude = Double.parseDouble(row[3].trim());
+            } catch (NumberFormatException e) {
+                log.warn("지하철 노선 데이터 숫자 변환 실패, 건너뜀: {}", String.join(",", row));
+                continue;
+            }
+            
+            // 순환선의 마지막 행처럼 이미 등록된 (노선, 역)이면 기존 정점 재사용
+            Integer vertex = vertexOf.get(lineName + "|" + station);
+            if (vertex == null) {
+                vertex = coordinates.size();
+                vertexOf.put(lineName + "|" + station, vertex);
+                verticesByStation.computeIfAbsent(station, key -> new ArrayList<>()).add(vertex);
+                coordinates.add(new double[]{latitude, longitude});
+            }
+            
+            // 같은 노선의 직전 역과 양방향 운행 간선
+            if (lineName.equals(previousLine) && previousVertex != vertex) {
+                double[] from = coordinates.get(previousVertex);
+                double distance = GeoUtils.haversineMeters(from[0], from[1], latitude, longitude);
+                double minutes = distance / (RIDE_SPEED_KMH * 1000.0) * 60.0 + DWELL_MINUTES;
+                edges.add(new int[]{previousVertex, vertex});
+                edgeMinutes.add(minutes);
+                edges.add(new int[]{vertex, previousVertex});
+                edgeMinutes.add(minutes);
+            }
+            previousLine = lineName;
+            previousVertex = vertex;
+        }
+        
+        // 같은 역명의 다른 노선 정점끼리 환승 간선
+        for (List<Integer> vertices : verticesByStation.values()) {
+            for (int a : vertices) {
+                for (int b : vertices) {
+                    if (a != b) {
+                        edges.add(new int[]{a, b});
+                        edgeMinutes.add(TRANSFER_MINUTES);
+                    }
+                }
+            }
+        }
+        
+        int vertexCount = coordinates.size();
+        latitudes = new double[vertexCount];
+        longitudes = new double[vertexCount];
+        for (int v = 0; v < vertexCount; v++) {
+            latitudes[v] = coordinates.get(v)[0];
+            longitudes[v] = coordinates.get(v)[1];
+        }
+        latitudesRad = new double[vertexCount];
+        cosLatitudes = new double[vertexCount];
+        GeoUtils.precompute(latitudes, vertexCount, latitudesRad, cosLatitudes);
+        
+        // 정점별 간선 수 집계 후 누적합으로 시작 위치 계산
+        adjacencyStart = new int[vertexCount + 1];
+        for (int[] edge : edges) {
+            adjacencyStart[edge[0] + 1]++;
+        }
+        for (int v = 0; v < vertexCount; v++) {
+            adjacencyStart[v + 1] += adjacencyStart[v];
+        }
+        
+        adjacencyTarget = new int[edges.size()];
+        adjacencyMinutes = new double[edges.size()];
+        int[] next = adjacencyStart.clone();
+        for (int e = 0; e < edges.size(); e++) {
+            int slot = next[edges.get(e)[0]]++;
+            adjacencyTarget[slot] = edges.get(e)[1];
+            adjacencyMinutes[slot] = edgeMinutes.get(e);
+        }
+    }
+    
+    /**
+     * 탐색 작업 공간 (정점별 거리, 접근역 목록, 다익스트라 힙)
+     * 만든 노선망에서만 사용하며 스레드 간에 공유하지 않는다
+     */
+    public static final class Workspace {
+        
+        private final double[] distances;
+        private final int[] stations;
+        private final double[] walkMinutes;
+        private final MinHeap heap;
+        
+        private Workspace(int vertexCount, int edgeCount) {
+            this.distances = new double[vertexCount];
+            this.stations = new int[vertexCount];
+            this.walkMinutes = new double[vertexCount];
+            // 중복 삽입 방식이므로 최대 크기는 시작 정점 수 + 간선 수
+            this.heap = new MinHeap(vertexCount + edgeCount);
+        }
+    }
+    
+    /**
+     * 다익스트라용 이진 최소 힙 (정점 번호와 키를 기본형 배열로 보관, 감소 연산 대신 중복 삽입)
+     */
+    private static final class MinHeap {
+        
+        private int[] vertices;
+        private double[] keys;
+        private int size;
+        
+        MinHeap(int capacity) {
+            vertices = new int[Math.max(capacity, 1)];
+            keys = new double[Math.max(capacity, 1)];
+        }
+        
+        boolean isEmpty() {
+            return size == 0;
+        }
+        
+        void clear() {
+            size = 0;
+        }
+        
+        double peekKey() {
+            return keys[0];
+        }
+        
+        void push(int vertex, double key) {
+            if (size == vertices.length) {
+                vertices = Arrays.copyOf(vertices, size * 2);
+                keys = Arrays.copyOf(keys, size * 2);
+            }
+            int i = size++;
+            while (i > 0) {
+                int parent = (i - 1) / 2;
+                if (keys[parent] <= key) {
+                    break;
+                }
+                vertices[i] = vertices[parent];
+                keys[i] = keys[parent];
+                i = parent;
+            }
+            vertices[i] = vertex;
+            keys[i] = key;
+        }
+        
+        int pop() {
+            int top = vertices[0];
+            size--;
+            int lastVertex = vertices[size];
+            double lastKey = keys[size];
+            
+            int i = 0;
+            while (true) {
+                int child = 2 * i + 1;
+                if (child >= size) {
+                    break;
+                }
+                if (child + 1 < size && keys[child + 1] < keys[child]) {
+                    child++;
+                }
+                if (keys[child] >= lastKey) {
+                    break;
+                }
+                vertices[i] = vertices[child];
+                keys[i] = keys[child];
+                i = child;
+            }
+            vertices[i] = lastVertex;
+            keys[i] = lastKey;
+            return top;
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.loadmapguide_backend.domain.location.service;
+
+import com.loadmapguide_backend.domain.location.dto.LocationRequest;
+import com.loadmapguide_backend.domain.location.dto.RealTimeRouteResponse;
+import com.loadmapguide_backend.domain.location.entity.LocationPoint;
+import com.loadmapguide_backend.global.common.enums.TransportationType;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 실시간 교통 반영 후보지점 재평가 (2단계 중 2단계)
+ * 직선거리로 순위를 매긴 상위 후보지점에 대해서만 실시간 경로를 조회한다.
+ * 요청당 외부 호출 수는 call-budget, 조회 대기 시간은 요청 시작 기준 지연 목표(SLO)로 제한한다.
+ */
+@Slf4j
+@Service
+public class TrafficAwareCandidateRefiner {
+
+    private final RealTimeTrafficService realTimeTrafficService;
+    private final Executor travelTimeMatrixExecutor;
+    private final int refineCount;
+    private final int callBudget;
+    private final long sloMillis;
+    private final DistributionSummary externalCalls;
+
+    public TrafficAwareCandidateRefiner(
+            RealTimeTrafficService realTimeTrafficService,
+            @Qualifier("travelTimeMatrixExecutor") Executor travelTimeMatrixExecutor,
+            @Value("${middle-point.traffic-aware.refine-count:5}") int refineCount,
+            @Value("${middle-point.traffic-aware.call-budget:40}") int callBudget,
+            @Value("${middle-point.traffic-aware.slo-ms:2500}") long sloMillis,
+            MeterRegistry meterRegistry) {
+        this.realTimeTrafficService = realTimeTrafficService;
+        this.travelTimeMatrixExecutor = travelTimeMatrixExecutor;
+        this.refineCount = refineCount;
+        this.callBudget = callBudget;
+        this.sloMillis = sloMillis;
+        this.externalCalls = DistributionSummary.builder("middle_point.traffic_aware.calls")
+                .description("실시간 교통 반영 요청당 경로 API 호출 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 실시간 교통 반영 대상 교통수단 여부 (카카오 실경로는 자동차만 제공)
+     */
+    public boolean supports(TransportationType transportationType) {
+        return transportationType == TransportationType.CAR;
+    }
+
+    /**
+     * 호출 예산 안에서 재평가할 수 있는 후보지점 수
+     */
+    public int refinableCount(int candidateCount, int participantCount) {
+        if (participantCount == 0) {
+            return 0;
+        }
+        return Math.min(Math.min(refineCount, candidateCount), callBudget / participantCount);
+    }
+
+    /**
+     * 후보지점별 참여자 실시간 이동시간 조회 (분)
+     * 후보지점 순서대로 행을 반환하며, 지연 목표 안에 끝나지 않은 후보지점은 null,
+     * 실시간 데이터가 없는 참여자는 NaN으로 채운다.
+     *
+     * @param requestStartMillis 요청 시작 시각 (지연 목표 기준)
+     */
+    public double[][] fetchTravelTimes(List<LocationPoint> participants, List<LocationPoint> candidates,
+                                       TransportationType transportationType, long requestStartMillis) {
+
+        long remainingMillis = sloMillis - (System.currentTimeMillis() - requestStartMillis);
+        double[][] travelTimes = new double[candidates.size()][];
+        if (remainingMillis <= 0) {
+            log.warn("지연 목표 초과로 실시간 교통 조회 생략 - 목표: {}ms", sloMillis);
+            return travelTimes;
+        }
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(remainingMillis);
+
+        List<LocationRequest> origins = participants.stream()
+                .map(point -> LocationRequest.builder()
+                        .address(point.getAddress())
+                        .latitude(point.getLatitude())
+                        .longitude(point.getLongitude())
+                        .build())
+                .toList();
+
+        // 1. 후보지점별 조회를 한 번에 전송
+        List<CompletableFuture<List<RealTimeRouteResponse>>> futures = new ArrayList<>(candidates.size());
+        for (LocationPoint candidate : candidates) {
+            futures.add(submitRoutes(origins, candidate, transportationType));
+        }
+        externalCalls.record((double) candidates.size() * origins.size());
+
+        // 2. 지연 목표까지 결과 수집
+        int completedCount = 0;
+        for (int c = 0; c < candidates.size(); c++) {
+            CompletableFuture<List<RealTimeRouteResponse>> future = futures.get(c);
+            List<RealTimeRouteResponse> routes = awaitUntil(future, deadline);
+            if (routes == null || routes.size() != origins.size()) {
+                future.cancel(true);
+                continue;
+            }
+
+            double[] row = new double[origins.size()];
+            for (int i = 0; i < row.length; i++) {
+                RealTimeRouteResponse route = routes.get(i);
+                row[i] = Boolean.TRUE.equals(route.getRealTimeData()) && route.getDuration() != null
+                        ? route.getDuration()
+                        : Double.NaN;
+            }
+            travelTimes[c] = row;
+            completedCount++;
+        }
+
+        log.info("실시간 교통 조회 완료 - 후보지점: {}/{}, 참여자: {}",
+                completedCount, candidates.size(), origins.size());
+        return travelTimes;
+    }
+
+    private CompletableFuture<List<RealTimeRouteResponse>> submitRoutes(
+            List<LocationRequest> origins, LocationPoint candidate, TransportationType transportationType) {
+        try {
+            return CompletableFuture.supplyAsync(
+                    () -> realTimeTrafficService.getRealTimeRoutes(
+                            origins, candidate.getLatitude(), candidate.getLongitude(), transportationType),
+                    travelTimeMatrixExecutor);
+        } catch (RejectedExecutionException e) {
+            log.debug("실시간 교통 조회 대기열 포화, 직선거리 추정 유지");
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+
+    private List<RealTimeRouteResponse> awaitUntil(CompletableFuture<List<RealTimeRouteResponse>> future, long deadline) {
+        try {
+            long remaining = Math.max(0, deadline - System.nanoTime());
+            return future.get(remaining, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException e) {
+            log.debug("실시간 교통 조회 실패, 직선거리 추정 유지: {}", e.getCause().getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.loadmapguide_backend.domain.location.service;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 요청 단위 외부 이동시간 조회 예산 (조회 쌍 수 상한, 마감시간)
+ * 한 요청 안에서 같은 계산 방식으로 이동시간 행렬을 여러 번 계산하면(교통수단별 1회) 같은 예산을 나눠 쓴다.
+ */
+public final class TravelTimeBudget {
+    
+    /**
+     * 외부 조회를 하지 않는 계산 방식용 (제한 없음)
+     */
+    public static final TravelTimeBudget UNLIMITED = new TravelTimeBudget(Integer.MAX_VALUE, 0L, false);
+    
+    private final AtomicInteger remainingPairs;
+    private final long deadlineNanos;
+    private final boolean bounded;
+    
+    private TravelTimeBudget(int maxPairs, long deadlineNanos, boolean bounded) {
+        this.remainingPairs = new AtomicInteger(maxPairs);
+        this.deadlineNanos = deadlineNanos;
+        this.bounded = bounded;
+    }
+    
+    /**
+     * 지금부터 deadlineMillis 안에 최대 maxPairs 쌍을 조회할 수 있는 예산
+     */
+    public static TravelTimeBudget of(int maxPairs, long deadlineMillis) {
+        return new TravelTimeBudget(maxPairs, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(deadlineMillis), true);
+    }
+    
+    /**
+     * 조회 쌍 예약 (남은 쌍 수가 부족하면 예약하지 않고 false)
+     */
+    public boolean tryReserve(int pairCount) {
+        while (true) {
+            int remaining = remainingPairs.get();
+            if (remaining < pairCount) {
+                return false;
+            }
+            if (remainingPairs.compareAndSet(remaining, remaining - pairCount)) {
+                return true;
+            }
+        }
+    }
+    
+    public int getRemainingPairs() {
+        return remainingPairs.get();
+    }
+    
+    /**
+     * 마감시간까지 남은 시간 (나노초, 제한 없으면 Long.MAX_VALUE)
+     */
+    public long remainingNanos() {
+        return bounded ? deadlineNanos - System.nanoTime() : Long.MAX_VALUE;
+    }
+    
+    public boolean isExpired() {
+        return remainingNanos() <= 0;
+    }
+}
@@ -0,0 +1,72 @@
+package com.loadmapguide_backend.domain.location.service;
+
+import com.loadmapguide_backend.global.common.enums.TransportationType;
+import com.loadmapguide_backend.global.common.util.GeoUtils;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+
+/**
+ * 이동시간 하한 추정
+ * 직선거리를 교통수단별 최고 속도로 나눈 값으로, 어떤 이동시간 계산 방식의 결과보다도 크지 않다 (허용 가능한 하한).
+ * 후보지점 가지치기에서 실제 이동시간을 계산하기 전에 점수 상한을 구하는 데 사용한다.
+ */
+@Component
+public class TravelTimeLowerBound {
+    
+    /**
+     * 참여자 전체 이동시간 합의 하한 (분, 후보지점별)
+     */
+    public void totalMinutes(double[] originLatitudes, double[] originLongitudes, int originCount,
+                             double[] candidateLatitudes, double[] candidateLongitudes, int candidateCount,
+                             TransportationType transportationType, double[] totals) {
+        
+        TransportationType[] modes = new TransportationType[originCount];
+        Arrays.fill(modes, transportationType);
+        totalMinutes(originLatitudes, originLongitudes, originCount,
+                candidateLatitudes, candidateLongitudes, candidateCount, modes, totals);
+    }
+    
+    /**
+     * 참여자 전체 이동시간 합의 하한 (분, 후보지점별, 참여자별 교통수단)
+     */
+    public void totalMinutes(double[] originLatitudes, double[] originLongitudes, int originCount,
+                             double[] candidateLatitudes, double[] candidateLongitudes, int candidateCount,
+                             TransportationType[] modes, double[] totals) {
+        
+        double[] latitudesRad = new double[originCount];
+        double[] cosLatitudes = new double[originCount];
+        GeoUtils.precompute(originLatitudes, originCount, latitudesRad, cosLatitudes);
+        
+        double[] minutesPerMeter = new double[originCount];
+        for (int o = 0; o < originCount; o++) {
+            minutesPerMeter[o] = 60.0 / (getMaxSpeed(modes[o]) * 1000.0);
+        }
+        double[] distances = new double[originCount];
+        
+        for (int c = 0; c < candidateCount; c++) {
+            GeoUtils.haversineMetersBatch(candidateLatitudes[c], candidateLongitudes[c],
+                    latitudesRad, cosLatitudes, originLongitudes, originCount, distances);
+            
+            double total = 0.0;
+            for (int o = 0; o < originCount; o++) {
+                total += distances[o] * minutesPerMeter[o];
+            }
+            totals[c] = total;
+        }
+    }
+    
+    /**
+     * 교통수단별 최고 속도 (km/h, 직선거리 기준)
+     * 평균 속도 추정, 경로 추정, 카카오 길찾기 결과 모두 이 속도보다 빠를 수 없도록 여유 있게 잡는다
+     */
+    public double getMaxSpeed(TransportationType transportationType) {
+        return switch (transportationType) {
+            case CAR -> 110.0; // km/h (도시고속도로 제한속도)
+            case SUBWAY -> 80.0; // km/h (급행 표정속도 상한)
+            case BUS -> 60.0; // km/h (광역버스 상한)
+            case PUBLIC_TRANSPORT -> 80.0; // km/h (지하철 상한)
+            case WALK -> 7.0; // km/h (빠른 걸음)
+        };
+    }
+}
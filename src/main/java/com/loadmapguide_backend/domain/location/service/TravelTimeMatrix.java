@@ -0,0 +1,36 @@
+package com.loadmapguide_backend.domain.location.service;
+
+import lombok.Getter;
+
+/**
+ * 출발지 × 목적지 이동시간 행렬 (분)
+ * 목적지(후보지점)별로 참여자 이동시간이 연속되도록 [목적지 × 출발지 수 + 출발지] 순서의 1차원 배열에 저장한다.
+ */
+@Getter
+public final class TravelTimeMatrix {
+    
+    private final int originCount;
+    private final int destinationCount;
+    private final double[] minutes;
+    
+    public TravelTimeMatrix(int originCount, int destinationCount) {
+        this.originCount = originCount;
+        this.destinationCount = destinationCount;
+        this.minutes = new double[originCount * destinationCount];
+    }
+    
+    public double get(int origin, int destination) {
+        return minutes[destination * originCount + origin];
+    }
+    
+    public void set(int origin, int destination, double travelMinutes) {
+        minutes[destination * originCount + origin] = travelMinutes;
+    }
+    
+    /**
+     * 목적지 하나에 대한 출발지별 이동시간 복사
+     */
+    public void copyRow(int destination, double[] target) {
+        System.arraycopy(minutes, destination * originCount, target, 0, originCount);
+    }
+}
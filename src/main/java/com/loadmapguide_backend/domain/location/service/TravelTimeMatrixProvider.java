@@ -0,0 +1,62 @@
+package com.loadmapguide_backend.domain.location.service;
+
+import com.loadmapguide_backend.global.common.enums.TransportationType;
+import com.loadmapguide_backend.global.common.enums.TravelTimeSource;
+
+/**
+ * 이동시간 행렬 계산기
+ * 출발지 N개 × 목적지 M개의 이동시간을 한 번에 계산한다.
+ */
+public interface TravelTimeMatrixProvider {
+    
+    TravelTimeSource getSource();
+    
+    /**
+     * 이동시간 행렬 계산
+     *
+     * @param originLatitudes       출발지 위도 배열
+     * @param originLongitudes      출발지 경도 배열
+     * @param originCount           유효한 출발지 수 (배열 앞쪽부터)
+     * @param destinationLatitudes  목적지 위도 배열
+     * @param destinationLongitudes 목적지 경도 배열
+     * @param destinationCount      유효한 목적지 수 (배열 앞쪽부터)
+     */
+    TravelTimeMatrix compute(double[] originLatitudes, double[] originLongitudes, int originCount,
+                             double[] destinationLatitudes, double[] destinationLongitudes, int destinationCount,
+                             TransportationType transportationType);
+    
+    /**
+     * 요청 단위 조회 예산을 나눠 쓰는 이동시간 행렬 계산
+     * 외부 API를 호출하지 않는 계산 방식은 예산을 무시한다.
+     */
+    default TravelTimeMatrix compute(double[] originLatitudes, double[] originLongitudes, int originCount,
+                                     double[] destinationLatitudes, double[] destinationLongitudes, int destinationCount,
+                                     TransportationType transportationType, TravelTimeBudget budget) {
+        return compute(originLatitudes, originLongitudes, originCount,
+                destinationLatitudes, destinationLongitudes, destinationCount, transportationType);
+    }
+    
+    /**
+     * 이동시간이 구분되는 최소 위치 간격 (위경도, 0이면 연속)
+     * 후보지점 탐색은 이 간격보다 촘촘하게 좁히지 않는다
+     */
+    default double resolutionDegrees() {
+        return 0.0;
+    }
+    
+    /**
+     * 후보지점 탐색 반복에 쓸 계산 방식
+     * 외부 API로 조회하는 계산 방식은 탐색 전체를 한 가지 추정 방식으로 점수화하도록 외부 호출이 없는 계산 방식을 돌려주고,
+     * 최종 후보지점만 이 계산 방식으로 다시 계산한다
+     */
+    default TravelTimeMatrixProvider searchProvider() {
+        return this;
+    }
+    
+    /**
+     * 요청 하나에 쓸 조회 예산 생성 (최종 후보지점 재계산 시 1회)
+     */
+    default TravelTimeBudget newBudget() {
+        return TravelTimeBudget.UNLIMITED;
+    }
+}
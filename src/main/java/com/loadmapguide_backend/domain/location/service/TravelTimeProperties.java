@@ -0,0 +1,36 @@
+package com.loadmapguide_backend.domain.location.service;
+
+import com.loadmapguide_backend.global.common.enums.TransportationType;
+import com.loadmapguide_backend.global.common.enums.TravelTimeSource;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 이동시간 계산 방식 설정
+ * source는 기본 계산 방식, sourceByMode는 교통수단별로 덮어쓸 계산 방식 (예: CAR는 길찾기, SUBWAY는 노선망).
+ * 도보는 따로 지정하지 않으면 도로망/교통 상황의 영향이 적으므로 직선거리 추정을 사용한다
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "middle-point.travel-time")
+public class TravelTimeProperties {
+    
+    private TravelTimeSource source = TravelTimeSource.STRAIGHT_LINE;
+    
+    private Map<TransportationType, TravelTimeSource> sourceByMode = new EnumMap<>(TransportationType.class);
+    
+    /**
+     * 교통수단의 이동시간 계산 방식
+     */
+    public TravelTimeSource sourceFor(TransportationType transportationType) {
+        TravelTimeSource configured = sourceByMode.get(transportationType);
+        if (configured != null) {
+            return configured;
+        }
+        return transportationType == TransportationType.WALK ? TravelTimeSource.STRAIGHT_LINE : source;
+    }
+}
@@ -44,10 +44,13 @@ public class PlaceSearchRequest {
     @Max(value = 50, message = "최대 결과 수는 50개입니다")
     private Integer limit = 20;
     
+    private String scoringProfile; // 추천 점수 가중치 프로필 (없으면 기본 가중치)
+    
     @Builder
     public PlaceSearchRequest(Double latitude, Double longitude, Integer radiusMeters,
                             List<PlaceCategory> categories, Integer maxBudget, Double minRating,
-                            String keyword, Boolean openNow, String sortBy, Integer limit) {
+                            String keyword, Boolean openNow, String sortBy, Integer limit,
+                            String scoringProfile) {
         this.latitude = latitude;
         this.longitude = longitude;
         this.radiusMeters = radiusMeters;
@@ -58,5 +61,6 @@ public class PlaceSearchRequest {
         this.openNow = openNow;
         this.sortBy = sortBy;
         this.limit = limit;
+        this.scoringProfile = scoringProfile;
     }
 }
\ No newline at end of file
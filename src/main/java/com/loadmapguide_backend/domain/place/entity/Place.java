@@ -3,6 +3,7 @@ package com.loadmapguide_backend.domain.place.entity;
 import com.loadmapguide_backend.global.common.entity.BaseEntity;
 import com.loadmapguide_backend.global.common.enums.PlaceCategory;
 import com.loadmapguide_backend.global.common.enums.PlaceTag;
+import com.loadmapguide_backend.global.common.util.GeoUtils;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -74,6 +75,12 @@ public class Place extends BaseEntity {
     @Column(name = "tag")
     private Set<PlaceTag> tags;
     
+    /**
+     * 태그 비트마스크 (tags와 함께 갱신, 태그 조건 검색을 비트 연산으로 처리)
+     */
+    @Column(name = "tag_mask", nullable = false)
+    private long tagMask;
+    
     @Builder
     public Place(String kakaoPlaceId, String name, PlaceCategory category,
                 String address, String roadAddress, Double latitude, Double longitude,
@@ -94,6 +101,7 @@ public class Place extends BaseEntity {
         this.additionalInfo = additionalInfo;
         this.placeUrl = placeUrl;
         this.tags = tags;
+        this.tagMask = PlaceTag.maskOf(tags);
     }
     
     /**
@@ -104,6 +112,7 @@ public class Place extends BaseEntity {
             this.tags = new java.util.HashSet<>();
         }
         this.tags.add(tag);
+        this.tagMask |= tag.bit();
     }
     
     /**
@@ -113,13 +122,14 @@ public class Place extends BaseEntity {
         if (this.tags != null) {
             this.tags.remove(tag);
         }
+        this.tagMask &= ~tag.bit();
     }
     
     /**
      * 특정 태그가 있는지 확인
      */
     public boolean hasTag(PlaceTag tag) {
-        return this.tags != null && this.tags.contains(tag);
+        return (this.tagMask & tag.bit()) != 0;
     }
     
     public void updateRating(Double rating) {
@@ -157,18 +167,6 @@ public class Place extends BaseEntity {
             return Double.MAX_VALUE;
         }
         
-        // Haversine formula for distance calculation
-        final int R = 6371; // Earth's radius in km
-        
-        double latDistance = Math.toRadians(targetLat - this.latitude);
-        double lonDistance = Math.toRadians(targetLng - this.longitude);
-        
-        double a = Math.sin(latDistance / 2) * Math.sin(latDistance / 2)
-                + Math.cos(Math.toRadians(this.latitude)) * Math.cos(Math.toRadians(targetLat))
-                * Math.sin(lonDistance / 2) * Math.sin(lonDistance / 2);
-                
-        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
-        
-        return R * c * 1000; // Convert to meters
+        return GeoUtils.haversineMeters(this.latitude, this.longitude, targetLat, targetLng);
     }
 }
\ No newline at end of file
@@ -2,7 +2,6 @@ package com.loadmapguide_backend.domain.place.repository;
 
 import com.loadmapguide_backend.domain.place.entity.Place;
 import com.loadmapguide_backend.global.common.enums.PlaceCategory;
-import com.loadmapguide_backend.global.common.enums.PlaceTag;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -10,7 +9,6 @@ import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 
 @Repository
 public interface PlaceRepository extends JpaRepository<Place, Long> {
@@ -44,55 +42,59 @@ public interface PlaceRepository extends JpaRepository<Place, Long> {
     @Query("SELECT p FROM Place p WHERE p.rating >= :minRating ORDER BY p.rating DESC")
     List<Place> findPlacesByMinRating(@Param("minRating") Double minRating);
     
+    /**
+     * 반경 내 장소 거리순 검색 (PostgreSQL + PostGIS 전용, V3 마이그레이션의 geog 공간 인덱스 사용)
+     * 반경 필터, 거리 정렬, 개수 제한을 모두 DB에서 처리한다
+     */
     @Query(value = 
-           "SELECT *, " +
-           "ST_Distance_Sphere(POINT(longitude, latitude), POINT(:lng, :lat)) as distance " +
-           "FROM places " +
-           "WHERE (:category IS NULL OR category = :category) " +
-           "HAVING distance <= :radiusMeters " +
-           "ORDER BY distance, rating DESC",
+           "SELECT * FROM places p " +
+           "WHERE ST_DWithin(p.geog, CAST(ST_SetSRID(ST_MakePoint(:lng, :lat), 4326) AS geography), :radiusMeters) " +
+           "AND (CAST(:category AS text) IS NULL OR p.category = CAST(:category AS text)) " +
+           "ORDER BY p.geog <-> CAST(ST_SetSRID(ST_MakePoint(:lng, :lat), 4326) AS geography), " +
+           "p.rating DESC NULLS LAST " +
+           "LIMIT :limit",
            nativeQuery = true)
     List<Place> findNearbyPlaces(
             @Param("lat") Double latitude,
             @Param("lng") Double longitude,
             @Param("radiusMeters") Double radiusMeters,
-            @Param("category") String category);
+            @Param("category") String category,
+            @Param("limit") int limit);
     
     /**
-     * 태그 기반 장소 검색
+     * 태그 중 하나라도 있는 장소 검색 (OR 조건, tagMask 비트 연산)
      */
-    @Query("SELECT DISTINCT p FROM Place p JOIN p.tags t WHERE t IN :tags")
-    List<Place> findByTagsIn(@Param("tags") Set<PlaceTag> tags);
+    @Query("SELECT p FROM Place p WHERE bitand(p.tagMask, :mask) <> 0 ORDER BY p.rating DESC")
+    List<Place> findByAnyTagMask(@Param("mask") long tagMask);
     
     /**
-     * 모든 태그를 포함하는 장소 검색 (AND 조건)
+     * 모든 태그를 포함하는 장소 검색 (AND 조건, tagMask 비트 연산)
      */
-    @Query("SELECT p FROM Place p WHERE SIZE(p.tags) >= :tagCount AND " +
-           "(SELECT COUNT(t) FROM Place p2 JOIN p2.tags t WHERE p2.id = p.id AND t IN :tags) = :tagCount")
-    List<Place> findByAllTags(@Param("tags") Set<PlaceTag> tags, @Param("tagCount") int tagCount);
+    @Query("SELECT p FROM Place p WHERE bitand(p.tagMask, :mask) = :mask ORDER BY p.rating DESC")
+    List<Place> findByAllTagMask(@Param("mask") long tagMask);
     
     /**
-     * 특정 위치 근처에서 태그로 검색
+     * 특정 위치 근처에서 태그로 검색 (OR 조건)
      */
-    @Query("SELECT DISTINCT p FROM Place p JOIN p.tags t WHERE " +
-           "t IN :tags AND " +
+    @Query("SELECT p FROM Place p WHERE " +
+           "bitand(p.tagMask, :mask) <> 0 AND " +
            "p.latitude BETWEEN :minLat AND :maxLat AND " +
            "p.longitude BETWEEN :minLng AND :maxLng " +
            "ORDER BY p.rating DESC")
-    List<Place> findByTagsInArea(
-            @Param("tags") Set<PlaceTag> tags,
+    List<Place> findByAnyTagMaskInArea(
+            @Param("mask") long tagMask,
             @Param("minLat") Double minLatitude,
             @Param("maxLat") Double maxLatitude,
             @Param("minLng") Double minLongitude,
             @Param("maxLng") Double maxLongitude);
     
     /**
-     * 카테고리와 태그로 복합 검색
+     * 카테고리와 태그로 복합 검색 (태그 OR 조건)
      */
-    @Query("SELECT DISTINCT p FROM Place p JOIN p.tags t WHERE " +
-           "p.category = :category AND t IN :tags " +
+    @Query("SELECT p FROM Place p WHERE " +
+           "p.category = :category AND bitand(p.tagMask, :mask) <> 0 " +
            "ORDER BY p.rating DESC")
-    List<Place> findByCategoryAndTags(
+    List<Place> findByCategoryAndAnyTagMask(
             @Param("category") PlaceCategory category,
-            @Param("tags") Set<PlaceTag> tags);
+            @Param("mask") long tagMask);
 }
\ No newline at end of file
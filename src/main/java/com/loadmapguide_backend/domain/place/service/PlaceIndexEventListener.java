@@ -0,0 +1,83 @@
+package com.loadmapguide_backend.domain.place.service;
+
+import com.loadmapguide_backend.domain.place.entity.Place;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+/**
+ * 장소 저장/수정/삭제를 공간 인덱스에 반영하는 Hibernate 이벤트 리스너
+ * 커밋된 변경만 반영해 롤백된 변경이 검색 결과에 남지 않게 하며, 엔티티에는 읽기 전용 스냅샷으로 복사해 넣는다.
+ * 엔티티가 서비스 계층에 의존하지 않도록 엔티티 어노테이션 대신 서비스 쪽에서 Hibernate에 등록한다.
+ */
+@Component
+public class PlaceIndexEventListener implements PostCommitInsertEventListener,
+        PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+    
+    private final EntityManagerFactory entityManagerFactory;
+    private final PlaceSpatialIndex placeSpatialIndex;
+    
+    public PlaceIndexEventListener(EntityManagerFactory entityManagerFactory, PlaceSpatialIndex placeSpatialIndex) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.placeSpatialIndex = placeSpatialIndex;
+    }
+    
+    @PostConstruct
+    public void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, this);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+    }
+    
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (event.getEntity() instanceof Place place) {
+            placeSpatialIndex.put(PlaceSnapshot.from(place));
+        }
+    }
+    
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (event.getEntity() instanceof Place place) {
+            placeSpatialIndex.put(PlaceSnapshot.from(place));
+        }
+    }
+    
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        if (event.getEntity() instanceof Place && event.getId() instanceof Long placeId) {
+            placeSpatialIndex.remove(placeId);
+        }
+    }
+    
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+        // 커밋 실패한 변경은 반영하지 않음
+    }
+    
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+    }
+    
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+    }
+    
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return Place.class.isAssignableFrom(persister.getMappedClass());
+    }
+}
@@ -0,0 +1,109 @@
+package com.loadmapguide_backend.domain.place.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 장소 검색 병렬 실행기
+ * 카테고리/키워드별 카카오 검색을 한 번에 전송하고 요청 단위 마감시간까지 도착한 결과만 모은다.
+ * 실패하거나 마감시간을 넘긴 검색은 제외하므로 응답 지연은 검색 시간의 합이 아니라 가장 느린 검색(최대 마감시간)이 된다.
+ */
+@Slf4j
+@Component
+public class PlaceSearchFanOut {
+    
+    private final Executor placeSearchExecutor;
+    private final long deadlineMillis;
+    private final MeterRegistry meterRegistry;
+    
+    public PlaceSearchFanOut(
+            @Qualifier("placeSearchExecutor") Executor placeSearchExecutor,
+            @Value("${place-search.fan-out.deadline-ms:4000}") long deadlineMillis,
+            MeterRegistry meterRegistry) {
+        this.placeSearchExecutor = placeSearchExecutor;
+        this.deadlineMillis = deadlineMillis;
+        this.meterRegistry = meterRegistry;
+    }
+    
+    /**
+     * 검색 병렬 실행 후 결과 병합 (검색 목록 순서 유지, 일부 검색만 성공해도 성공한 결과 반환)
+     *
+     * @param label 로그 표시용 검색 이름
+     */
+    public <T> List<T> searchAll(String label, List<Supplier<List<T>>> searches) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(deadlineMillis);
+        
+        // 1. 모든 검색을 한 번에 전송
+        List<CompletableFuture<List<T>>> futures = new ArrayList<>(searches.size());
+        for (Supplier<List<T>> search : searches) {
+            futures.add(submit(search));
+        }
+        
+        // 2. 마감시간까지 결과 수집
+        List<T> results = new ArrayList<>();
+        int completedCount = 0;
+        for (CompletableFuture<List<T>> future : futures) {
+            List<T> partial = awaitUntil(future, deadline);
+            if (partial == null) {
+                future.cancel(true);
+                continue;
+            }
+            results.addAll(partial);
+            completedCount++;
+        }
+        
+        if (completedCount < futures.size()) {
+            log.warn("{} 일부 검색 제외 - 완료: {}/{}, 마감시간: {}ms",
+                    label, completedCount, futures.size(), deadlineMillis);
+        }
+        return results;
+    }
+    
+    private <T> CompletableFuture<List<T>> submit(Supplier<List<T>> search) {
+        try {
+            return CompletableFuture.supplyAsync(search, placeSearchExecutor);
+        } catch (RejectedExecutionException e) {
+            log.debug("장소 검색 대기열 포화, 해당 검색 제외");
+            record("rejected");
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+    
+    private <T> List<T> awaitUntil(CompletableFuture<List<T>> future, long deadline) {
+        try {
+            long remaining = Math.max(0, deadline - System.nanoTime());
+            List<T> result = future.get(remaining, TimeUnit.NANOSECONDS);
+            if (result != null) {
+                record("success");
+            }
+            return result;
+        } catch (TimeoutException e) {
+            record("timeout");
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException e) {
+            log.debug("장소 검색 실패, 해당 검색 제외: {}", e.getCause().getMessage());
+            record("failure");
+            return null;
+        }
+    }
+    
+    private void record(String result) {
+        meterRegistry.counter("place_search.fan_out.calls", "result", result).increment();
+    }
+}
@@ -6,19 +6,29 @@ import com.loadmapguide_backend.domain.place.entity.Place;
 import com.loadmapguide_backend.domain.place.repository.PlaceRepository;
 import com.loadmapguide_backend.global.common.enums.PlaceCategory;
 import com.loadmapguide_backend.global.common.enums.PlaceTag;
+import com.loadmapguide_backend.global.common.util.TopKSelector;
 import com.loadmapguide_backend.global.exception.BusinessException;
 import com.loadmapguide_backend.global.exception.ErrorCode;
 import com.loadmapguide_backend.global.external.kakao.KakaoMapApiClient;
 import com.loadmapguide_backend.global.external.kakao.dto.KakaoPlaceResponse;
+import com.loadmapguide_backend.global.scoring.FeatureExtractor;
+import com.loadmapguide_backend.global.scoring.ScoringFeature;
+import com.loadmapguide_backend.global.scoring.ScoringModel;
+import com.loadmapguide_backend.global.scoring.ScoringModelRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -29,6 +39,28 @@ public class PlaceSearchService {
     
     private final PlaceRepository placeRepository;
     private final KakaoMapApiClient kakaoMapApiClient;
+    private final ScoringModelRegistry scoringModelRegistry;
+    private final PlaceSearchFanOut placeSearchFanOut;
+    private final PlaceSpatialIndex placeSpatialIndex;
+    
+    @Value("${place-search.postgis.enabled:false}")
+    private boolean postgisEnabled;
+    
+    // 추천 점수 특성 추출기
+    private static final List<FeatureExtractor<RecommendationSubject>> RECOMMENDATION_FEATURES = List.of(
+            // 거리 점수 (가까울수록 높은 점수, 10km까지 점수 부여)
+            FeatureExtractor.of(ScoringFeature.DISTANCE, subject -> Math.max(0, 100 - (subject.place()
+                    .distanceTo(subject.request().getLatitude(), subject.request().getLongitude()) / 100))),
+            // 평점 점수
+            FeatureExtractor.of(ScoringFeature.RATING, subject -> subject.place().rating() != null
+                    ? (subject.place().rating() / 5.0) * 100 : 0),
+            // 리뷰 수 점수
+            FeatureExtractor.of(ScoringFeature.REVIEW_COUNT, subject -> {
+                Integer reviewCount = subject.place().reviewCount();
+                return reviewCount != null ? Math.min(100, reviewCount / 10.0) : 0;
+            }),
+            // 영업 여부 점수 (오늘 영업 일정이 있으면 100, 휴무면 0, 정보가 없으면 50)
+            FeatureExtractor.of(ScoringFeature.PLACE_AVAILABILITY, subject -> availabilityScore(subject.place())));
     
     /**
      * 주변 장소 검색 (DB + 카카오 API 통합)
@@ -38,31 +70,29 @@ public class PlaceSearchService {
             log.info("장소 검색 시작 - 위치: ({}, {}), 반경: {}m", 
                     request.getLatitude(), request.getLongitude(), request.getRadiusMeters());
             
-            // 1. DB에서 기존 장소 검색
-            List<Place> dbPlaces = searchPlacesByLocation(request);
+            // 1. 저장된 장소 검색 (공간 인덱스, 적재 전에는 DB), 장소별 거리는 한 번만 계산해 재사용
+            Map<PlaceSnapshot, Double> distances = new IdentityHashMap<>();
+            List<PlaceSnapshot> dbPlaces = searchPlacesByLocation(request, distances);
             log.debug("DB에서 찾은 장소: {}개", dbPlaces.size());
             
             // 2. 카카오 API에서 장소 검색
-            List<Place> kakaoPlaces = searchPlacesFromKakaoApi(request);
+            List<PlaceSnapshot> kakaoPlaces = snapshotsOf(searchPlacesFromKakaoApi(request));
             log.debug("카카오 API에서 찾은 장소: {}개", kakaoPlaces.size());
             
             // 3. 두 결과 병합 (중복 제거)
-            List<Place> combinedPlaces = Stream.concat(dbPlaces.stream(), kakaoPlaces.stream())
-                    .distinct() // Place 엔티티에 equals/hashcode 구현 필요
+            List<PlaceSnapshot> combinedPlaces = Stream.concat(dbPlaces.stream(), kakaoPlaces.stream())
+                    .distinct()
                     .collect(Collectors.toList());
             
             // 4. 필터링 적용
-            List<Place> filteredPlaces = applyFilters(combinedPlaces, request);
+            List<PlaceSnapshot> filteredPlaces = applyFilters(combinedPlaces, request, distances);
             
             // 5. 정렬 및 제한
-            List<Place> sortedPlaces = applySortingAndLimit(filteredPlaces, request);
+            List<PlaceSnapshot> sortedPlaces = applySortingAndLimit(filteredPlaces, request, distances);
             
             // 6. 응답 변환
             List<PlaceResponse> responses = sortedPlaces.stream()
-                    .map(place -> {
-                        double distance = place.calculateDistance(request.getLatitude(), request.getLongitude());
-                        return PlaceResponse.from(place, distance);
-                    })
+                    .map(place -> place.toResponse(distanceOf(place, request, distances)))
                     .collect(Collectors.toList());
             
             log.info("장소 검색 완료 - 총 {}개 장소 발견 (DB: {}개, API: {}개)", 
@@ -77,20 +107,20 @@ public class PlaceSearchService {
     
     /**
      * 카카오 API에서 장소 검색
+     * 키워드/카테고리별 검색은 병렬로 실행하고, 마감시간 안에 도착한 결과만 사용한다
      */
     private List<Place> searchPlacesFromKakaoApi(PlaceSearchRequest request) {
         try {
-            List<Place> apiResults = new ArrayList<>();
+            List<Supplier<List<Place>>> searches = new ArrayList<>();
             
             // 키워드가 있으면 키워드 검색
             if (request.getKeyword() != null && !request.getKeyword().trim().isEmpty()) {
-                KakaoPlaceResponse keywordResponse = kakaoMapApiClient.searchPlacesByKeyword(
+                searches.add(() -> convertKakaoResponseToPlaces(kakaoMapApiClient.searchPlacesByKeyword(
                         request.getKeyword(), 
                         request.getLongitude(), 
                         request.getLatitude(), 
                         request.getRadiusMeters()
-                );
-                apiResults.addAll(convertKakaoResponseToPlaces(keywordResponse));
+                )));
             }
             
             // 카테고리별 검색
@@ -98,13 +128,7 @@ public class PlaceSearchService {
                 for (PlaceCategory category : request.getCategories()) {
                     String categoryCode = getCategoryCode(category);
                     if (categoryCode != null) {
-                        KakaoPlaceResponse categoryResponse = kakaoMapApiClient.searchPlacesByCategory(
-                                categoryCode, 
-                                request.getLongitude(), 
-                                request.getLatitude(), 
-                                request.getRadiusMeters()
-                        );
-                        apiResults.addAll(convertKakaoResponseToPlaces(categoryResponse));
+                        searches.add(() -> searchKakaoCategory(categoryCode, request));
                     }
                 }
             }
@@ -115,17 +139,11 @@ public class PlaceSearchService {
                 
                 String[] defaultCategories = {"CE7", "FD6", "MT1"}; // 카페, 음식점, 마트
                 for (String categoryCode : defaultCategories) {
-                    KakaoPlaceResponse response = kakaoMapApiClient.searchPlacesByCategory(
-                            categoryCode, 
-                            request.getLongitude(), 
-                            request.getLatitude(), 
-                            request.getRadiusMeters()
-                    );
-                    apiResults.addAll(convertKakaoResponseToPlaces(response));
+                    searches.add(() -> searchKakaoCategory(categoryCode, request));
                 }
             }
             
-            return apiResults.stream()
+            return placeSearchFanOut.searchAll("카카오 장소 검색", searches).stream()
                     .distinct()
                     .collect(Collectors.toList());
                     
@@ -135,6 +153,16 @@ public class PlaceSearchService {
         }
     }
     
+    private List<Place> searchKakaoCategory(String categoryCode, PlaceSearchRequest request) {
+        KakaoPlaceResponse response = kakaoMapApiClient.searchPlacesByCategory(
+                categoryCode, 
+                request.getLongitude(), 
+                request.getLatitude(), 
+                request.getRadiusMeters()
+        );
+        return convertKakaoResponseToPlaces(response);
+    }
+    
     /**
      * 카테고리별 장소 검색
      */
@@ -173,8 +201,29 @@ public class PlaceSearchService {
     
     /**
      * 위치 기반 장소 검색
+     * 공간 인덱스가 준비되어 있으면 메모리에서 반경/카테고리/필터 조건으로 가까운 순 검색하고,
+     * 거리순 정렬이면 요청 개수만큼만 찾는다. 인덱스에서 계산한 거리는 distances에 담는다.
+     * 인덱스가 없으면 PostgreSQL은 PostGIS 반경/거리순 쿼리로, 그 외(H2)는 위경도 범위 쿼리로 DB에서 찾는다
      */
-    private List<Place> searchPlacesByLocation(PlaceSearchRequest request) {
+    private List<PlaceSnapshot> searchPlacesByLocation(PlaceSearchRequest request, Map<PlaceSnapshot, Double> distances) {
+        if (placeSpatialIndex.isReady()) {
+            int limit = sortsByDistance(request) ? request.getLimit() : Integer.MAX_VALUE;
+            List<PlaceSpatialIndex.Neighbor> neighbors = placeSpatialIndex.findNearest(
+                    request.getLatitude(), request.getLongitude(), request.getRadiusMeters(),
+                    request.getCategories(), place -> matchesFilters(place, request), limit);
+            
+            List<PlaceSnapshot> places = new ArrayList<>(neighbors.size());
+            for (PlaceSpatialIndex.Neighbor neighbor : neighbors) {
+                distances.put(neighbor.place(), neighbor.distanceMeters());
+                places.add(neighbor.place());
+            }
+            return places;
+        }
+        
+        if (postgisEnabled) {
+            return searchPlacesByPostgis(request);
+        }
+        
         // 검색 영역 계산 (위도/경도 범위)
         double latRange = request.getRadiusMeters() / 111000.0; // 1도 = 약 111km
         double lngRange = request.getRadiusMeters() / (111000.0 * Math.cos(Math.toRadians(request.getLatitude())));
@@ -186,80 +235,129 @@ public class PlaceSearchService {
         
         if (request.getCategories() != null && !request.getCategories().isEmpty()) {
             // 카테고리별 검색
-            return request.getCategories().stream()
+            return snapshotsOf(request.getCategories().stream()
                     .flatMap(category -> 
                             placeRepository.findPlacesByCategoryInArea(category, minLat, maxLat, minLng, maxLng).stream())
                     .distinct()
-                    .collect(Collectors.toList());
+                    .collect(Collectors.toList()));
         } else {
             // 전체 카테고리 검색
-            return placeRepository.findPlacesInArea(minLat, maxLat, minLng, maxLng);
+            return snapshotsOf(placeRepository.findPlacesInArea(minLat, maxLat, minLng, maxLng));
+        }
+    }
+    
+    /**
+     * PostGIS 반경/거리순 검색 (geog 공간 인덱스 사용)
+     * 거리순 정렬이고 거리 외 필터가 없으면 DB에서 요청 개수만큼만 가져온다 (필터가 있으면 걸러진 뒤 개수가 모자랄 수 있으므로 반경 내 전체)
+     */
+    private List<PlaceSnapshot> searchPlacesByPostgis(PlaceSearchRequest request) {
+        int limit = sortsByDistance(request) && !hasAttributeFilters(request) ? request.getLimit() : Integer.MAX_VALUE;
+        double radiusMeters = request.getRadiusMeters();
+        
+        if (request.getCategories() != null && !request.getCategories().isEmpty()) {
+            // 카테고리별 검색 (카테고리마다 가까운 limit개면 합친 결과의 가까운 limit개가 모두 포함됨)
+            return snapshotsOf(request.getCategories().stream()
+                    .flatMap(category -> placeRepository.findNearbyPlaces(
+                            request.getLatitude(), request.getLongitude(), radiusMeters, category.name(), limit).stream())
+                    .distinct()
+                    .collect(Collectors.toList()));
         }
+        return snapshotsOf(placeRepository.findNearbyPlaces(
+                request.getLatitude(), request.getLongitude(), radiusMeters, null, limit));
+    }
+    
+    private boolean hasAttributeFilters(PlaceSearchRequest request) {
+        return request.getMaxBudget() != null
+                || request.getMinRating() != null
+                || (request.getKeyword() != null && !request.getKeyword().trim().isEmpty());
     }
     
     /**
      * 필터 조건 적용
      */
-    private List<Place> applyFilters(List<Place> places, PlaceSearchRequest request) {
+    private List<PlaceSnapshot> applyFilters(List<PlaceSnapshot> places, PlaceSearchRequest request,
+                                             Map<PlaceSnapshot, Double> distances) {
         return places.stream()
-                .filter(place -> {
-                    // 거리 필터
-                    double distance = place.calculateDistance(request.getLatitude(), request.getLongitude());
-                    if (distance > request.getRadiusMeters()) {
-                        return false;
-                    }
-                    
-                    // 예산 필터
-                    if (request.getMaxBudget() != null && place.getPriceRange() != null) {
-                        if (place.getPriceRange() > request.getMaxBudget()) {
-                            return false;
-                        }
-                    }
-                    
-                    // 평점 필터
-                    if (request.getMinRating() != null && place.getRating() != null) {
-                        if (place.getRating() < request.getMinRating()) {
-                            return false;
-                        }
-                    }
-                    
-                    // 키워드 필터
-                    if (request.getKeyword() != null && !request.getKeyword().trim().isEmpty()) {
-                        String keyword = request.getKeyword().toLowerCase();
-                        String placeName = place.getName() != null ? place.getName().toLowerCase() : "";
-                        String placeAddress = place.getAddress() != null ? place.getAddress().toLowerCase() : "";
-                        
-                        if (!placeName.contains(keyword) && !placeAddress.contains(keyword)) {
-                            return false;
-                        }
-                    }
-                    
-                    return true;
-                })
+                .filter(place -> distanceOf(place, request, distances) <= request.getRadiusMeters())
+                .filter(place -> matchesFilters(place, request))
                 .collect(Collectors.toList());
     }
     
+    /**
+     * 거리 외 필터 조건 (예산, 평점, 키워드)
+     */
+    private boolean matchesFilters(PlaceSnapshot place, PlaceSearchRequest request) {
+        // 예산 필터
+        if (request.getMaxBudget() != null && place.priceRange() != null) {
+            if (place.priceRange() > request.getMaxBudget()) {
+                return false;
+            }
+        }
+        
+        // 평점 필터
+        if (request.getMinRating() != null && place.rating() != null) {
+            if (place.rating() < request.getMinRating()) {
+                return false;
+            }
+        }
+        
+        // 키워드 필터
+        if (request.getKeyword() != null && !request.getKeyword().trim().isEmpty()) {
+            String keyword = request.getKeyword().toLowerCase();
+            String placeName = place.name() != null ? place.name().toLowerCase() : "";
+            String placeAddress = place.address() != null ? place.address().toLowerCase() : "";
+            
+            if (!placeName.contains(keyword) && !placeAddress.contains(keyword)) {
+                return false;
+            }
+        }
+        
+        return true;
+    }
+    
     /**
      * 정렬 및 개수 제한 적용
+     * 정렬 키를 장소별로 한 번만 계산해 상위 limit개만 고른다 (전체 정렬 없음, 같은 키는 입력 순서 유지)
      */
-    private List<Place> applySortingAndLimit(List<Place> places, PlaceSearchRequest request) {
-        Comparator<Place> comparator = switch (request.getSortBy().toUpperCase()) {
-            case "RATING" -> Comparator.comparing(Place::getRating, 
-                    Comparator.nullsLast(Comparator.reverseOrder()));
-            case "POPULARITY" -> Comparator.comparing(place -> {
-                if (place.getAdditionalInfo() != null && place.getAdditionalInfo().getReviewCount() != null) {
-                    return place.getAdditionalInfo().getReviewCount();
-                }
-                return 0;
-            }, Comparator.reverseOrder());
-            default -> Comparator.comparing(place -> 
-                    place.calculateDistance(request.getLatitude(), request.getLongitude()));
+    private List<PlaceSnapshot> applySortingAndLimit(List<PlaceSnapshot> places, PlaceSearchRequest request,
+                                                     Map<PlaceSnapshot, Double> distances) {
+        ToDoubleFunction<PlaceSnapshot> sortKey = switch (request.getSortBy().toUpperCase()) {
+            // 평점 높은 순 (평점 없는 장소는 맨 뒤)
+            case "RATING" -> PlaceSearchService::ratingKey;
+            // 리뷰 많은 순
+            case "POPULARITY" -> place -> place.reviewCount() != null ? -place.reviewCount() : 0;
+            default -> place -> distanceOf(place, request, distances);
         };
         
-        return places.stream()
-                .sorted(comparator)
-                .limit(request.getLimit())
-                .collect(Collectors.toList());
+        return TopKSelector.smallest(places, sortKey, request.getLimit());
+    }
+    
+    private boolean sortsByDistance(PlaceSearchRequest request) {
+        return switch (request.getSortBy().toUpperCase()) {
+            case "RATING", "POPULARITY" -> false;
+            default -> true;
+        };
+    }
+    
+    /**
+     * 검색 기준점으로부터의 거리 (장소별 1회 계산)
+     */
+    private double distanceOf(PlaceSnapshot place, PlaceSearchRequest request, Map<PlaceSnapshot, Double> distances) {
+        return distances.computeIfAbsent(place,
+                key -> key.distanceTo(request.getLatitude(), request.getLongitude()));
+    }
+    
+    /**
+     * 평점 높은 순 정렬 키 (평점 없는 장소는 맨 뒤)
+     */
+    private static double ratingKey(PlaceSnapshot place) {
+        return place.rating() != null ? -place.rating() : Double.POSITIVE_INFINITY;
+    }
+    
+    private static List<PlaceSnapshot> snapshotsOf(List<Place> places) {
+        List<PlaceSnapshot> snapshots = new ArrayList<>(places.size());
+        places.forEach(place -> snapshots.add(PlaceSnapshot.from(place)));
+        return snapshots;
     }
     
     /**
@@ -270,57 +368,21 @@ public class PlaceSearchService {
         try {
             log.info("태그 기반 장소 검색 시작 - 태그: {}, 위치: ({}, {})", tags, latitude, longitude);
             
-            List<Place> places;
-            
-            if (latitude != null && longitude != null && radiusMeters != null) {
-                // 위치 기반 태그 검색
-                double latRange = radiusMeters / 111000.0;
-                double lngRange = radiusMeters / (111000.0 * Math.cos(Math.toRadians(latitude)));
-                
-                double minLat = latitude - latRange;
-                double maxLat = latitude + latRange;
-                double minLng = longitude - lngRange;
-                double maxLng = longitude + lngRange;
-                
-                places = placeRepository.findByTagsInArea(tags, minLat, maxLat, minLng, maxLng);
-            } else {
-                // 전체 영역에서 태그 검색
-                places = placeRepository.findByTagsIn(tags);
-            }
-            
-            // 거리 계산 및 정렬
-            if (latitude != null && longitude != null) {
-                places = places.stream()
-                        .filter(place -> {
-                            if (radiusMeters != null) {
-                                double distance = place.calculateDistance(latitude, longitude);
-                                return distance <= radiusMeters;
-                            }
-                            return true;
-                        })
-                        .sorted((p1, p2) -> {
-                            double d1 = p1.calculateDistance(latitude, longitude);
-                            double d2 = p2.calculateDistance(latitude, longitude);
-                            return Double.compare(d1, d2);
-                        })
-                        .collect(Collectors.toList());
-            }
-            
-            // 제한 적용
-            if (limit != null) {
-                places = places.stream()
-                        .limit(limit)
-                        .collect(Collectors.toList());
-            }
-            
-            // 응답 변환
-            List<PlaceResponse> responses = places.stream()
-                    .map(place -> {
-                        double distance = latitude != null && longitude != null ? 
-                                place.calculateDistance(latitude, longitude) : 0.0;
-                        return PlaceResponse.from(place, distance);
-                    })
-                    .collect(Collectors.toList());
+            long tagMask = PlaceTag.maskOf(tags);
+            List<PlaceResponse> responses = searchByTagMask(tagMask, false, null,
+                    latitude, longitude, radiusMeters, limit, () -> {
+                        if (latitude != null && longitude != null && radiusMeters != null) {
+                            // 위치 기반 태그 검색
+                            double latRange = radiusMeters / 111000.0;
+                            double lngRange = radiusMeters / (111000.0 * Math.cos(Math.toRadians(latitude)));
+                            
+                            return placeRepository.findByAnyTagMaskInArea(tagMask,
+                                    latitude - latRange, latitude + latRange,
+                                    longitude - lngRange, longitude + lngRange);
+                        }
+                        // 전체 영역에서 태그 검색
+                        return placeRepository.findByAnyTagMask(tagMask);
+                    });
             
             log.info("태그 기반 장소 검색 완료 - {}개 장소 발견", responses.size());
             return responses;
@@ -340,38 +402,10 @@ public class PlaceSearchService {
         try {
             log.info("카테고리-태그 복합 검색 시작 - 카테고리: {}, 태그: {}", category, tags);
             
-            List<Place> places = placeRepository.findByCategoryAndTags(category, tags);
-            
-            // 위치 필터링
-            if (latitude != null && longitude != null && radiusMeters != null) {
-                places = places.stream()
-                        .filter(place -> {
-                            double distance = place.calculateDistance(latitude, longitude);
-                            return distance <= radiusMeters;
-                        })
-                        .sorted((p1, p2) -> {
-                            double d1 = p1.calculateDistance(latitude, longitude);
-                            double d2 = p2.calculateDistance(latitude, longitude);
-                            return Double.compare(d1, d2);
-                        })
-                        .collect(Collectors.toList());
-            }
-            
-            // 제한 적용
-            if (limit != null) {
-                places = places.stream()
-                        .limit(limit)
-                        .collect(Collectors.toList());
-            }
-            
-            // 응답 변환
-            List<PlaceResponse> responses = places.stream()
-                    .map(place -> {
-                        double distance = latitude != null && longitude != null ? 
-                                place.calculateDistance(latitude, longitude) : 0.0;
-                        return PlaceResponse.from(place, distance);
-                    })
-                    .collect(Collectors.toList());
+            long tagMask = PlaceTag.maskOf(tags);
+            List<PlaceResponse> responses = searchByTagMask(tagMask, false, category,
+                    latitude, longitude, radiusMeters, limit,
+                    () -> placeRepository.findByCategoryAndAnyTagMask(category, tagMask));
             
             log.info("카테고리-태그 복합 검색 완료 - {}개 장소 발견", responses.size());
             return responses;
@@ -390,38 +424,10 @@ public class PlaceSearchService {
         try {
             log.info("전체 태그 포함 검색 시작 - 태그: {}", tags);
             
-            List<Place> places = placeRepository.findByAllTags(tags, tags.size());
-            
-            // 위치 필터링
-            if (latitude != null && longitude != null && radiusMeters != null) {
-                places = places.stream()
-                        .filter(place -> {
-                            double distance = place.calculateDistance(latitude, longitude);
-                            return distance <= radiusMeters;
-                        })
-                        .sorted((p1, p2) -> {
-                            double d1 = p1.calculateDistance(latitude, longitude);
-                            double d2 = p2.calculateDistance(latitude, longitude);
-                            return Double.compare(d1, d2);
-                        })
-                        .collect(Collectors.toList());
-            }
-            
-            // 제한 적용
-            if (limit != null) {
-                places = places.stream()
-                        .limit(limit)
-                        .collect(Collectors.toList());
-            }
-            
-            // 응답 변환
-            List<PlaceResponse> responses = places.stream()
-                    .map(place -> {
-                        double distance = latitude != null && longitude != null ? 
-                                place.calculateDistance(latitude, longitude) : 0.0;
-                        return PlaceResponse.from(place, distance);
-                    })
-                    .collect(Collectors.toList());
+            long tagMask = PlaceTag.maskOf(tags);
+            List<PlaceResponse> responses = searchByTagMask(tagMask, true, null,
+                    latitude, longitude, radiusMeters, limit,
+                    () -> placeRepository.findByAllTagMask(tagMask));
             
             log.info("전체 태그 포함 검색 완료 - {}개 장소 발견", responses.size());
             return responses;
@@ -433,28 +439,82 @@ public class PlaceSearchService {
     }
 
     /**
-     * 추천 점수 계산 (추후 고도화)
+     * 태그 비트마스크 검색 (AND/OR)
+     * 공간 인덱스가 준비되어 있으면 반경 검색은 격자 안에서 비트마스크로, 그 외는 태그별 비트맵 연산으로 찾고,
+     * 준비 전에는 DB 조회 결과를 사용한다. 결과는 반경 필터 후 가까운 순 상위 limit개
+     * (기준 좌표가 없으면 평점순)
      */
-    public double calculateRecommendationScore(Place place, PlaceSearchRequest request) {
-        double score = 0.0;
+    private List<PlaceResponse> searchByTagMask(long tagMask, boolean matchAll, PlaceCategory category,
+                                                Double latitude, Double longitude, Integer radiusMeters,
+                                                Integer limit, Supplier<List<Place>> databaseQuery) {
+        if (tagMask == 0 && !matchAll) {
+            return new ArrayList<>(); // OR 조건에 태그가 없으면 일치하는 장소 없음 (DB 조회와 동일)
+        }
+        if (!placeSpatialIndex.isReady()) {
+            return selectNearest(snapshotsOf(databaseQuery.get()), latitude, longitude, radiusMeters, limit);
+        }
         
-        // 거리 점수 (가까울수록 높은 점수)
-        double distance = place.calculateDistance(request.getLatitude(), request.getLongitude());
-        double distanceScore = Math.max(0, 100 - (distance / 100)); // 10km까지 점수 부여
-        score += distanceScore * 0.3;
+        int k = limit != null ? limit : Integer.MAX_VALUE;
+        if (latitude != null && longitude != null && radiusMeters != null) {
+            return placeSpatialIndex.findNearest(latitude, longitude, radiusMeters,
+                            category != null ? List.of(category) : null, tagMask, matchAll, place -> true, k)
+                    .stream()
+                    .map(neighbor -> neighbor.place().toResponse(neighbor.distanceMeters()))
+                    .collect(Collectors.toList());
+        }
         
-        // 평점 점수
-        if (place.getRating() != null) {
-            score += (place.getRating() / 5.0) * 100 * 0.4;
+        List<PlaceSnapshot> places = placeSpatialIndex.findByTags(tagMask, matchAll, category);
+        if (latitude == null || longitude == null) {
+            // DB 조회와 같은 평점순
+            places = TopKSelector.smallest(places, PlaceSearchService::ratingKey, k);
+        }
+        return selectNearest(places, latitude, longitude, radiusMeters, limit);
+    }
+    
+    /**
+     * 반경 내 가까운 순 상위 limit개 응답 변환
+     * 거리는 장소별로 한 번만 계산해 반경 필터, 상위 k개 선택, 응답에 함께 사용한다.
+     * 기준 좌표가 없으면 조회 순서대로 limit개를 거리 0으로 반환한다
+     */
+    private List<PlaceResponse> selectNearest(List<PlaceSnapshot> places, Double latitude, Double longitude,
+                                              Integer radiusMeters, Integer limit) {
+        int k = limit != null ? limit : Integer.MAX_VALUE;
+        if (latitude == null || longitude == null) {
+            return places.stream()
+                    .limit(k)
+                    .map(place -> place.toResponse(0.0))
+                    .collect(Collectors.toList());
         }
         
-        // 리뷰 수 점수
-        if (place.getAdditionalInfo() != null && place.getAdditionalInfo().getReviewCount() != null) {
-            double reviewScore = Math.min(100, place.getAdditionalInfo().getReviewCount() / 10.0);
-            score += reviewScore * 0.3;
+        List<PlaceSnapshot> withinRadius = new ArrayList<>(places.size());
+        double[] distances = new double[places.size()];
+        for (PlaceSnapshot place : places) {
+            double distance = place.distanceTo(latitude, longitude);
+            if (radiusMeters == null || distance <= radiusMeters) {
+                distances[withinRadius.size()] = distance;
+                withinRadius.add(place);
+            }
         }
         
-        return Math.min(100, score);
+        int[] nearest = TopKSelector.smallest(distances, withinRadius.size(), k);
+        List<PlaceResponse> responses = new ArrayList<>(nearest.length);
+        for (int index : nearest) {
+            responses.add(withinRadius.get(index).toResponse(distances[index]));
+        }
+        return responses;
+    }
+    
+    /**
+     * 추천 점수 계산 (점수 모델, 요청의 점수 프로필 적용)
+     */
+    public double calculateRecommendationScore(PlaceSnapshot place, PlaceSearchRequest request) {
+        ScoringModel model = scoringModelRegistry.getModel(
+                ScoringModelRegistry.PLACE_RECOMMENDATION, request.getScoringProfile());
+        
+        double[] features = new double[ScoringModel.FEATURE_COUNT];
+        model.extract(new RecommendationSubject(place, request), RECOMMENDATION_FEATURES, features, 0);
+        
+        return Math.min(100, model.score(features));
     }
     
     /**
@@ -532,4 +592,15 @@ public class PlaceSearchService {
             return PlaceCategory.CAFE; // 기본값
         }
     }
-}
\ No newline at end of file
+    
+    private static double availabilityScore(PlaceSnapshot place) {
+        Boolean open = place.isOpenOn(LocalDate.now().getDayOfWeek().name());
+        if (open == null) {
+            return 50;
+        }
+        return open ? 100.0 : 0.0;
+    }
+    
+    private record RecommendationSubject(PlaceSnapshot place, PlaceSearchRequest request) {
+    }
+}
@@ -0,0 +1,133 @@
+package com.loadmapguide_backend.domain.place.service;
+
+import com.loadmapguide_backend.domain.place.dto.PlaceResponse;
+import com.loadmapguide_backend.domain.place.entity.BusinessHours;
+import com.loadmapguide_backend.domain.place.entity.Place;
+import com.loadmapguide_backend.global.common.enums.PlaceCategory;
+import com.loadmapguide_backend.global.common.util.GeoUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 장소 검색용 읽기 전용 스냅샷
+ * 공간 인덱스와 검색 결과 처리는 JPA 엔티티 대신 이 값을 요청 스레드 간에 공유한다
+ * (영속성 컨텍스트 밖의 지연 로딩, 공유 엔티티 변경/병합 위험 없음).
+ * 영업시간은 요일별 영업 여부만, 부가 정보는 응답에 필요한 값만 복사해 둔다.
+ *
+ * @param openByDay 요일(대문자 영문)별 영업 여부, 영업시간 정보가 없으면 null
+ */
+public record PlaceSnapshot(
+        Long id,
+        String kakaoPlaceId,
+        String name,
+        PlaceCategory category,
+        String address,
+        String roadAddress,
+        Double latitude,
+        Double longitude,
+        String phone,
+        Double rating,
+        Integer priceRange,
+        String placeUrl,
+        long tagMask,
+        Integer reviewCount,
+        Map<String, Boolean> openByDay,
+        PlaceResponse.BusinessHoursInfo businessHoursInfo,
+        PlaceResponse.PlaceDetailInfo detailInfo) {
+
+    public static PlaceSnapshot from(Place place) {
+        PlaceResponse.PlaceDetailInfo detail = PlaceResponse.PlaceDetailInfo.from(place.getAdditionalInfo());
+        return new PlaceSnapshot(
+                place.getId(),
+                place.getKakaoPlaceId(),
+                place.getName(),
+                place.getCategory(),
+                place.getAddress(),
+                place.getRoadAddress(),
+                place.getLatitude(),
+                place.getLongitude(),
+                place.getPhone(),
+                place.getRating(),
+                place.getPriceRange(),
+                place.getPlaceUrl(),
+                place.getTagMask(),
+                place.getAdditionalInfo() != null ? place.getAdditionalInfo().getReviewCount() : null,
+                openByDay(place.getBusinessHours()),
+                PlaceResponse.BusinessHoursInfo.from(place.getBusinessHours()),
+                PlaceResponse.PlaceDetailInfo.builder()
+                        .menuItems(copyOf(detail.getMenuItems()))
+                        .facilities(copyOf(detail.getFacilities()))
+                        .parkingInfo(detail.getParkingInfo())
+                        .wifiAvailable(detail.getWifiAvailable())
+                        .cardPayment(detail.getCardPayment())
+                        .atmosphere(detail.getAtmosphere())
+                        .reviewCount(detail.getReviewCount())
+                        .build());
+    }
+
+    public boolean hasCoordinates() {
+        return latitude != null && longitude != null;
+    }
+
+    /**
+     * 기준점까지 거리 (미터, 좌표가 없으면 Double.MAX_VALUE)
+     */
+    public double distanceTo(double targetLatitude, double targetLongitude) {
+        if (!hasCoordinates()) {
+            return Double.MAX_VALUE;
+        }
+        return GeoUtils.haversineMeters(latitude, longitude, targetLatitude, targetLongitude);
+    }
+
+    /**
+     * 요일별 영업 여부 (정보가 없으면 null)
+     *
+     * @param dayOfWeek 영문 요일명 (예: MONDAY)
+     */
+    public Boolean isOpenOn(String dayOfWeek) {
+        return openByDay != null ? openByDay.get(dayOfWeek.toUpperCase(Locale.ROOT)) : null;
+    }
+
+    public PlaceResponse toResponse(Double distanceMeters) {
+        return PlaceResponse.builder()
+                .id(id)
+                .kakaoPlaceId(kakaoPlaceId)
+                .name(name)
+                .category(category)
+                .address(address)
+                .roadAddress(roadAddress)
+                .latitude(latitude)
+                .longitude(longitude)
+                .phone(phone)
+                .rating(rating)
+                .priceRange(priceRange)
+                .placeUrl(placeUrl)
+                .distanceMeters(distanceMeters)
+                .businessHours(businessHoursInfo)
+                .additionalInfo(detailInfo)
+                .build();
+    }
+
+    private static Map<String, Boolean> openByDay(BusinessHours businessHours) {
+        if (businessHours == null || businessHours.getWeeklySchedule() == null) {
+            return null;
+        }
+        // 같은 요일이 여러 번 있으면 첫 번째 일정 사용
+        Map<String, Boolean> openByDay = new HashMap<>();
+        for (BusinessHours.DaySchedule schedule : businessHours.getWeeklySchedule()) {
+            if (schedule.getDayOfWeek() != null) {
+                openByDay.putIfAbsent(schedule.getDayOfWeek().toUpperCase(Locale.ROOT), schedule.isOpen());
+            }
+        }
+        return Collections.unmodifiableMap(openByDay);
+    }
+
+    private static List<String> copyOf(List<String> values) {
+        return values != null ? Collections.unmodifiableList(new ArrayList<>(values)) : null;
+    }
+}
@@ -0,0 +1,310 @@
+package com.loadmapguide_backend.domain.place.service;
+
+import com.loadmapguide_backend.domain.place.repository.PlaceRepository;
+import com.loadmapguide_backend.global.common.enums.PlaceCategory;
+import com.loadmapguide_backend.global.common.enums.PlaceTag;
+import com.loadmapguide_backend.global.common.util.GeoUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntConsumer;
+import java.util.function.Predicate;
+
+/**
+ * 장소 공간 인덱스 (메모리)
+ * 저장된 장소를 일정 간격(기본 약 500m) 위경도 격자 버킷으로 나눠 두고, 반경 검색 시 반경을 덮는 격자만 검사한다.
+ * 시작 시 전체 장소를 한 번 읽고 이후에는 {@link PlaceIndexEventListener}가 커밋된 저장/수정/삭제를 반영하므로
+ * 주변 장소 검색이 매 요청 DB 범위 조회를 하지 않는다. 적재가 끝나기 전이거나 비활성화된 경우 호출 측은 DB를 조회한다.
+ * 엔티티 대신 읽기 전용 {@link PlaceSnapshot}을 보관하고 반환한다.
+ * 반영되는 변경은 이 인스턴스(노드)에서 Hibernate 세션으로 커밋된 것뿐이다. 다른 노드의 쓰기나 벌크 JPQL/네이티브 수정은
+ * 다음 적재({@link #load()}, 재시작 시) 전까지 보이지 않으므로, 여러 노드가 같은 DB에 쓰는 배포에서는 비활성화한다.
+ * 태그 조건은 장소별 태그 비트마스크와 태그별 비트맵(역색인, 장소 슬롯 번호 기준)으로 비트 연산만으로 처리한다.
+ */
+@Slf4j
+@Component
+public class PlaceSpatialIndex {
+    
+    private static final double METERS_PER_LAT_DEGREE = 111_320.0;
+    private static final long NO_CELL = Long.MIN_VALUE; // 좌표 없음 (격자에 넣지 않음)
+    
+    private final PlaceRepository placeRepository;
+    private final boolean enabled;
+    private final double cellDegrees;
+    
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<Long, Map<Long, Entry>> cells = new ConcurrentHashMap<>();
+    private volatile boolean ready;
+    
+    // 태그 역색인: 태그별 비트맵과 슬롯별 장소 (삭제된 슬롯은 재사용해 비트맵을 조밀하게 유지)
+    private final BitSet[] tagBitmaps = new BitSet[PlaceTag.values().length];
+    private final BitSet occupiedSlots = new BitSet();
+    private final List<PlaceSnapshot> slotPlaces = new ArrayList<>();
+    private final ReadWriteLock tagLock = new ReentrantReadWriteLock();
+    
+    public PlaceSpatialIndex(
+            PlaceRepository placeRepository,
+            @Value("${place-search.index.enabled:true}") boolean enabled,
+            @Value("${place-search.index.cell-meters:500}") double cellMeters) {
+        this.placeRepository = placeRepository;
+        this.enabled = enabled;
+        this.cellDegrees = cellMeters / METERS_PER_LAT_DEGREE;
+        for (int i = 0; i < tagBitmaps.length; i++) {
+            tagBitmaps[i] = new BitSet();
+        }
+    }
+    
+    /**
+     * 전체 장소 적재 (애플리케이션 시작 완료 후 1회)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (!enabled) {
+            return;
+        }
+        
+        try {
+            placeRepository.findAll().forEach(place -> put(PlaceSnapshot.from(place)));
+            ready = true;
+            log.info("장소 공간 인덱스 적재 완료 - 장소 {}개, 격자 {}개", entries.size(), cells.size());
+        } catch (RuntimeException e) {
+            log.error("장소 공간 인덱스 적재 실패, DB 조회 사용", e);
+        }
+    }
+    
+    /**
+     * 인덱스 사용 가능 여부 (적재 완료 후)
+     */
+    public boolean isReady() {
+        return ready;
+    }
+    
+    public int size() {
+        return entries.size();
+    }
+    
+    /**
+     * 장소 추가 또는 위치/속성 갱신 (좌표가 없는 장소는 태그 역색인에만 둔다)
+     */
+    public void put(PlaceSnapshot place) {
+        if (!enabled || place.id() == null) {
+            return;
+        }
+        boolean located = place.hasCoordinates();
+        
+        tagLock.writeLock().lock();
+        try {
+            Entry previous = entries.get(place.id());
+            int slot = previous != null ? previous.slot() : occupiedSlots.nextClearBit(0);
+            Entry entry = new Entry(place.id(),
+                    located ? place.latitude() : Double.NaN, located ? place.longitude() : Double.NaN,
+                    place.category(), place.tagMask(), slot,
+                    located ? cellKey(place.latitude(), place.longitude()) : NO_CELL, place);
+            
+            entries.put(entry.id(), entry);
+            if (previous != null && previous.cell() != entry.cell()) {
+                removeFromCell(previous);
+            }
+            if (located) {
+                cells.computeIfAbsent(entry.cell(), key -> new ConcurrentHashMap<>()).put(entry.id(), entry);
+            }
+            
+            if (previous != null) {
+                clearTags(previous);
+            }
+            occupiedSlots.set(slot);
+            if (slot == slotPlaces.size()) {
+                slotPlaces.add(place);
+            } else {
+                slotPlaces.set(slot, place);
+            }
+            forEachTag(entry.tagMask(), ordinal -> tagBitmaps[ordinal].set(slot));
+        } finally {
+            tagLock.writeLock().unlock();
+        }
+    }
+    
+    public void remove(Long placeId) {
+        if (placeId == null) {
+            return;
+        }
+        tagLock.writeLock().lock();
+        try {
+            Entry previous = entries.remove(placeId);
+            if (previous != null) {
+                removeFromCell(previous);
+                clearTags(previous);
+                occupiedSlots.clear(previous.slot());
+                slotPlaces.set(previous.slot(), null);
+            }
+        } finally {
+            tagLock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * 태그 조건에 맞는 장소 (좌표가 없는 장소 포함 전체 대상, 순서 무관)
+     * 태그별 비트맵을 AND/OR 해 후보 슬롯을 구한 뒤 카테고리만 확인한다.
+     *
+     * @param tagMask  찾을 태그 비트마스크 ({@link PlaceTag#maskOf})
+     * @param matchAll true면 모든 태그 포함(AND), false면 하나 이상 포함(OR)
+     * @param category 카테고리 조건 (null이면 전체)
+     */
+    public List<PlaceSnapshot> findByTags(long tagMask, boolean matchAll, PlaceCategory category) {
+        tagLock.readLock().lock();
+        try {
+            BitSet matched = null;
+            long remaining = tagMask;
+            while (remaining != 0) {
+                BitSet bitmap = tagBitmaps[Long.numberOfTrailingZeros(remaining)];
+                remaining &= remaining - 1;
+                if (matched == null) {
+                    matched = (BitSet) bitmap.clone();
+                } else if (matchAll) {
+                    matched.and(bitmap);
+                } else {
+                    matched.or(bitmap);
+                }
+            }
+            if (matched == null) {
+                matched = occupiedSlots;
+            }
+            
+            List<PlaceSnapshot> places = new ArrayList<>(matched.cardinality());
+            for (int slot = matched.nextSetBit(0); slot >= 0; slot = matched.nextSetBit(slot + 1)) {
+                PlaceSnapshot place = slotPlaces.get(slot);
+                if (category == null || place.category() == category) {
+                    places.add(place);
+                }
+            }
+            return places;
+        } finally {
+            tagLock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * 반경 내 가까운 장소 k개 (가까운 순)
+     *
+     * @param categories 허용 카테고리 (null이거나 비어있으면 전체)
+     * @param filter     거리 외 추가 조건 (반경 안의 장소에만 적용)
+     * @param limit      최대 개수 (거리순 상위 k개, 전체가 필요하면 Integer.MAX_VALUE)
+     */
+    public List<Neighbor> findNearest(double latitude, double longitude, double radiusMeters,
+                                      Collection<PlaceCategory> categories, Predicate<PlaceSnapshot> filter, int limit) {
+        return findNearest(latitude, longitude, radiusMeters, categories, 0L, false, filter, limit);
+    }
+    
+    /**
+     * 반경 내 태그 조건에 맞는 가까운 장소 k개 (가까운 순)
+     * 태그 조건은 격자 안의 장소마다 비트마스크 비교 한 번으로 거리 계산 전에 거른다.
+     *
+     * @param tagMask  찾을 태그 비트마스크 (0이면 태그 조건 없음)
+     * @param matchAll true면 모든 태그 포함(AND), false면 하나 이상 포함(OR)
+     */
+    public List<Neighbor> findNearest(double latitude, double longitude, double radiusMeters,
+                                      Collection<PlaceCategory> categories, long tagMask, boolean matchAll,
+                                      Predicate<PlaceSnapshot> filter, int limit) {
+        
+        double latRange = radiusMeters / METERS_PER_LAT_DEGREE;
+        double lngRange = radiusMeters / (METERS_PER_LAT_DEGREE * Math.cos(Math.toRadians(latitude)));
+        long minRow = (long) Math.floor((latitude - latRange) / cellDegrees);
+        long maxRow = (long) Math.floor((latitude + latRange) / cellDegrees);
+        long minCol = (long) Math.floor((longitude - lngRange) / cellDegrees);
+        long maxCol = (long) Math.floor((longitude + lngRange) / cellDegrees);
+        boolean allCategories = categories == null || categories.isEmpty();
+        
+        // 가장 먼 후보가 맨 앞인 최대 힙 (k개 유지)
+        PriorityQueue<Neighbor> nearest = new PriorityQueue<>(
+                Comparator.comparingDouble(Neighbor::distanceMeters).reversed());
+        
+        for (long row = minRow; row <= maxRow; row++) {
+            for (long col = minCol; col <= maxCol; col++) {
+                Map<Long, Entry> cell = cells.get(cellKey(row, col));
+                if (cell == null) {
+                    continue;
+                }
+                for (Entry entry : cell.values()) {
+                    if (!allCategories && !categories.contains(entry.category())) {
+                        continue;
+                    }
+                    if (tagMask != 0 && !matchesTags(entry.tagMask(), tagMask, matchAll)) {
+                        continue;
+                    }
+                    double distance = GeoUtils.haversineMeters(latitude, longitude, entry.latitude(), entry.longitude());
+                    if (distance > radiusMeters) {
+                        continue;
+                    }
+                    if (nearest.size() >= limit && distance >= nearest.peek().distanceMeters()) {
+                        continue;
+                    }
+                    if (!filter.test(entry.place())) {
+                        continue;
+                    }
+                    nearest.offer(new Neighbor(entry.place(), distance));
+                    if (nearest.size() > limit) {
+                        nearest.poll();
+                    }
+                }
+            }
+        }
+        
+        List<Neighbor> result = new ArrayList<>(nearest);
+        result.sort(Comparator.comparingDouble(Neighbor::distanceMeters));
+        return result;
+    }
+    
+    private void removeFromCell(Entry entry) {
+        Map<Long, Entry> cell = cells.get(entry.cell());
+        if (cell != null) {
+            cell.remove(entry.id(), entry);
+        }
+    }
+    
+    private static boolean matchesTags(long placeTags, long tagMask, boolean matchAll) {
+        long common = placeTags & tagMask;
+        return matchAll ? common == tagMask : common != 0;
+    }
+    
+    private void clearTags(Entry entry) {
+        forEachTag(entry.tagMask(), ordinal -> tagBitmaps[ordinal].clear(entry.slot()));
+    }
+    
+    private static void forEachTag(long tagMask, IntConsumer action) {
+        long remaining = tagMask;
+        while (remaining != 0) {
+            action.accept(Long.numberOfTrailingZeros(remaining));
+            remaining &= remaining - 1;
+        }
+    }
+    
+    private long cellKey(double latitude, double longitude) {
+        return cellKey((long) Math.floor(latitude / cellDegrees), (long) Math.floor(longitude / cellDegrees));
+    }
+    
+    private static long cellKey(long row, long col) {
+        return (row << 32) ^ (col & 0xFFFFFFFFL);
+    }
+    
+    /**
+     * 검색 결과 (장소와 검색 기준점으로부터의 거리)
+     */
+    public record Neighbor(PlaceSnapshot place, double distanceMeters) {
+    }
+    
+    private record Entry(long id, double latitude, double longitude, PlaceCategory category,
+                         long tagMask, int slot, long cell, PlaceSnapshot place) {
+    }
+}
@@ -25,6 +25,7 @@ public class RealTimePlaceService {
     
     private final KakaoMapApiClient kakaoMapApiClient;
     private final PlaceRepository placeRepository;
+    private final PlaceSearchFanOut placeSearchFanOut;
     
     /**
      * 특정 위치 주변의 실시간 장소 정보 조회
@@ -36,25 +37,13 @@ public class RealTimePlaceService {
         List<Place> realTimePlaces = new ArrayList<>();
         
         try {
-            // 카페 검색
-            List<Place> cafes = searchAndConvertPlaces("카페", latitude, longitude, radius, "CE7", PlaceCategory.CAFE);
-            realTimePlaces.addAll(cafes);
-            
-            // 식당 검색
-            List<Place> restaurants = searchAndConvertPlaces("식당", latitude, longitude, radius, "FD6", PlaceCategory.RESTAURANT);
-            realTimePlaces.addAll(restaurants);
-            
-            // 스터디카페 검색
-            List<Place> studyCafes = searchAndConvertPlaces("스터디카페", latitude, longitude, radius, "CE7", PlaceCategory.STUDY_CAFE);
-            realTimePlaces.addAll(studyCafes);
-            
-            // 쇼핑 검색
-            List<Place> shopping = searchAndConvertPlaces("쇼핑몰", latitude, longitude, radius, "MT1", PlaceCategory.SHOPPING);
-            realTimePlaces.addAll(shopping);
-            
-            // 공원 검색
-            List<Place> parks = searchAndConvertPlaces("공원", latitude, longitude, radius, "AT4", PlaceCategory.PARK);
-            realTimePlaces.addAll(parks);
+            // 카페, 식당, 스터디카페, 쇼핑, 공원 검색을 병렬로 실행 (카테고리별 키워드 보완 검색 포함)
+            realTimePlaces = placeSearchFanOut.searchAll("실시간 장소 검색", List.of(
+                    () -> searchAndConvertPlaces("카페", latitude, longitude, radius, "CE7", PlaceCategory.CAFE),
+                    () -> searchAndConvertPlaces("식당", latitude, longitude, radius, "FD6", PlaceCategory.RESTAURANT),
+                    () -> searchAndConvertPlaces("스터디카페", latitude, longitude, radius, "CE7", PlaceCategory.STUDY_CAFE),
+                    () -> searchAndConvertPlaces("쇼핑몰", latitude, longitude, radius, "MT1", PlaceCategory.SHOPPING),
+                    () -> searchAndConvertPlaces("공원", latitude, longitude, radius, "AT4", PlaceCategory.PARK)));
             
             log.info("✅ 실시간 장소 정보 조회 완료 - 총 {}개 장소 발견", realTimePlaces.size());
             
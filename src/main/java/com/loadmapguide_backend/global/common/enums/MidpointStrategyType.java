@@ -0,0 +1,19 @@
+package com.loadmapguide_backend.global.common.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 중간지점 탐색 시작점 계산 방식
+ */
+@Getter
+@RequiredArgsConstructor
+public enum MidpointStrategyType {
+    
+    CENTROID("CENTROID", "기하학적 중심점"),               // 위경도 산술평균
+    GEOMETRIC_MEDIAN("GEOMETRIC_MEDIAN", "기하 중앙값"),   // 총 이동거리 최소 (Weiszfeld)
+    MINIMAX("MINIMAX", "최대거리 최소점");                  // 가장 먼 참여자의 거리 최소 (공평성)
+    
+    private final String code;
+    private final String description;
+}
@@ -3,6 +3,8 @@ package com.loadmapguide_backend.global.common.enums;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
+import java.util.Collection;
+
 /**
  * 장소 태그 enum
  * 사용자가 원하는 목적에 따른 장소 분류
@@ -82,4 +84,24 @@ public enum PlaceTag {
     public static PlaceTag[] getPriceTags() {
         return new PlaceTag[]{BUDGET_FRIENDLY, MID_RANGE, PREMIUM};
     }
-}
\ No newline at end of file
+    
+    /**
+     * 태그 비트 (Place.tagMask, 선언 순서가 비트 위치이므로 기존 태그의 순서를 바꾸지 않는다)
+     */
+    public long bit() {
+        return 1L << ordinal();
+    }
+    
+    /**
+     * 태그 집합의 비트마스크
+     */
+    public static long maskOf(Collection<PlaceTag> tags) {
+        long mask = 0L;
+        if (tags != null) {
+            for (PlaceTag tag : tags) {
+                mask |= tag.bit();
+            }
+        }
+        return mask;
+    }
+}
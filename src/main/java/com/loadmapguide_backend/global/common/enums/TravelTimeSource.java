@@ -0,0 +1,21 @@
+package com.loadmapguide_backend.global.common.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 후보지점 점수 계산용 이동시간 산출 방식
+ */
+@Getter
+@RequiredArgsConstructor
+public enum TravelTimeSource {
+    
+    STRAIGHT_LINE("STRAIGHT_LINE", "직선거리 추정"),          // 직선거리 / 교통수단별 평균 속도
+    ROUTE_ESTIMATE("ROUTE_ESTIMATE", "경로 계산 추정"),       // RouteCalculationService
+    KAKAO_DIRECTIONS("KAKAO_DIRECTIONS", "카카오 길찾기"),    // 자동차 실경로 (그 외 교통수단은 직선거리 추정)
+    ISOCHRONE_GRID("ISOCHRONE_GRID", "사전 계산 격자"),       // 오프라인 생성 격자 간 이동시간 표 (메모리 매핑)
+    SUBWAY_GRAPH("SUBWAY_GRAPH", "지하철 노선망");            // 지하철/대중교통 최단경로 (그 외 교통수단은 직선거리 추정)
+    
+    private final String code;
+    private final String description;
+}
@@ -0,0 +1,113 @@
+package com.loadmapguide_backend.global.common.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 상위 k개 선택 유틸리티
+ * 정렬 키를 항목별로 한 번만 계산해 기본형 배열에 두고, 크기 k의 최대 힙으로 키가 작은 k개를 고른다 (O(n log k)).
+ * 키가 같으면 입력 순서를 유지하므로 안정 정렬 후 limit을 적용한 결과와 같다.
+ * 내림차순이 필요하면 키의 부호를 바꾸고, 맨 뒤로 보낼 항목은 Double.POSITIVE_INFINITY를 키로 쓴다.
+ */
+public final class TopKSelector {
+    
+    private TopKSelector() {
+    }
+    
+    /**
+     * 키가 작은 순서로 상위 k개 항목 선택
+     */
+    public static <T> List<T> smallest(List<T> items, ToDoubleFunction<? super T> keyOf, int k) {
+        int count = items.size();
+        double[] keys = new double[count];
+        for (int i = 0; i < count; i++) {
+            keys[i] = keyOf.applyAsDouble(items.get(i));
+        }
+        
+        int[] selected = smallest(keys, count, k);
+        List<T> result = new ArrayList<>(selected.length);
+        for (int index : selected) {
+            result.add(items.get(index));
+        }
+        return result;
+    }
+    
+    /**
+     * 키가 작은 순서로 상위 k개 인덱스 선택
+     *
+     * @param keys  항목별 정렬 키 (앞쪽 count개 사용)
+     * @param count 유효한 항목 수
+     * @return 선택된 항목 인덱스 (키 오름차순, 같은 키는 인덱스 오름차순)
+     */
+    public static int[] smallest(double[] keys, int count, int k) {
+        int size = Math.min(Math.max(k, 0), count);
+        if (size == 0) {
+            return new int[0];
+        }
+        
+        // 루트가 선택된 항목 중 가장 뒤에 올 항목인 최대 힙
+        int[] heap = new int[size];
+        int heapSize = 0;
+        for (int i = 0; i < count; i++) {
+            if (heapSize < size) {
+                heap[heapSize] = i;
+                siftUp(heap, heapSize, keys);
+                heapSize++;
+            } else if (precedes(keys, i, heap[0])) {
+                heap[0] = i;
+                siftDown(heap, heapSize, keys);
+            }
+        }
+        
+        // 가장 뒤에 올 항목부터 꺼내 뒤쪽부터 채움
+        int[] result = new int[heapSize];
+        for (int n = heapSize - 1; n >= 0; n--) {
+            result[n] = heap[0];
+            heap[0] = heap[n];
+            siftDown(heap, n, keys);
+        }
+        return result;
+    }
+    
+    private static boolean precedes(double[] keys, int a, int b) {
+        int compared = Double.compare(keys[a], keys[b]);
+        return compared < 0 || (compared == 0 && a < b);
+    }
+    
+    private static void siftUp(int[] heap, int position, double[] keys) {
+        int item = heap[position];
+        while (position > 0) {
+            int parent = (position - 1) / 2;
+            if (!precedes(keys, heap[parent], item)) {
+                break;
+            }
+            heap[position] = heap[parent];
+            position = parent;
+        }
+        heap[position] = item;
+    }
+    
+    private static void siftDown(int[] heap, int size, double[] keys) {
+        if (size == 0) {
+            return;
+        }
+        int item = heap[0];
+        int position = 0;
+        while (true) {
+            int child = 2 * position + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && precedes(keys, heap[child], heap[child + 1])) {
+                child++;
+            }
+            if (!precedes(keys, item, heap[child])) {
+                break;
+            }
+            heap[position] = heap[child];
+            position = child;
+        }
+        heap[position] = item;
+    }
+}
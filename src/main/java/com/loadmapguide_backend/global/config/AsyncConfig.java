@@ -0,0 +1,127 @@
+package com.loadmapguide_backend.global.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Slf4j
+@Configuration
+public class AsyncConfig {
+
+    /**
+     * 후보지점 역지오코딩 전용 스레드 풀
+     * 실제 동시 호출 상한은 CandidateAddressResolver의 허가 수(같은 max-concurrency)로 비동기 경로와 함께 제한한다.
+     */
+    @Bean(name = "reverseGeocodingExecutor")
+    public ThreadPoolTaskExecutor reverseGeocodingExecutor(
+            @Value("${middle-point.reverse-geocoding.max-concurrency:8}") int maxConcurrency,
+            @Value("${middle-point.reverse-geocoding.queue-capacity:200}") int queueCapacity) {
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(maxConcurrency);
+        executor.setMaxPoolSize(maxConcurrency);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("reverse-geocode-");
+        // 큐가 가득 차면 즉시 거절하고 호출 측에서 좌표 표시로 대체한다 (요청 스레드를 막지 않음)
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+
+        log.info("역지오코딩 스레드 풀 설정 - 동시 호출 상한: {}, 대기열: {}", maxConcurrency, queueCapacity);
+        return executor;
+    }
+
+    /**
+     * 이동시간 행렬 길찾기 조회 전용 스레드 풀
+     * 풀 크기가 곧 카카오 길찾기 API 동시 호출 상한이 된다.
+     */
+    @Bean(name = "travelTimeMatrixExecutor")
+    public ThreadPoolTaskExecutor travelTimeMatrixExecutor(
+            @Value("${middle-point.travel-time.kakao.max-concurrency:8}") int maxConcurrency,
+            @Value("${middle-point.travel-time.kakao.queue-capacity:400}") int queueCapacity) {
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(maxConcurrency);
+        executor.setMaxPoolSize(maxConcurrency);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("travel-time-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+
+        log.info("길찾기 스레드 풀 설정 - 동시 호출 상한: {}, 대기열: {}", maxConcurrency, queueCapacity);
+        return executor;
+    }
+
+    /**
+     * 중간지점 비동기 계산 전용 스레드 풀 (좌표 변환, 후보지점 점수화)
+     * 서블릿 스레드 대신 이 풀에서 계산하므로 동시 요청 수가 서블릿 스레드 수에 묶이지 않는다.
+     */
+    @Bean(name = "middlePointExecutor")
+    public ThreadPoolTaskExecutor middlePointExecutor(
+            @Value("${middle-point.async.pool-size:0}") int poolSize,
+            @Value("${middle-point.async.queue-capacity:500}") int queueCapacity) {
+
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors() * 2;
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("middle-point-");
+        // 큐가 가득 차면 즉시 거절해 과부하 시 빠르게 실패한다
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+
+        log.info("중간지점 계산 스레드 풀 설정 - 스레드: {}, 대기열: {}", threads, queueCapacity);
+        return executor;
+    }
+
+    /**
+     * 대량 중간지점 계산 전용 스레드 풀
+     * 풀 크기만큼의 모임을 동시에 계산하며, 대화형 요청용 middlePointExecutor와 분리해 야간 배치가 일반 요청을 밀어내지 않게 한다.
+     */
+    @Bean(name = "bulkMiddlePointExecutor")
+    public ThreadPoolTaskExecutor bulkMiddlePointExecutor(
+            @Value("${middle-point.bulk.parallelism:4}") int parallelism) {
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(parallelism);
+        executor.setMaxPoolSize(parallelism);
+        executor.setQueueCapacity(parallelism * 4);
+        executor.setThreadNamePrefix("bulk-middle-point-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+
+        log.info("대량 중간지점 계산 스레드 풀 설정 - 병렬도: {}", parallelism);
+        return executor;
+    }
+
+    /**
+     * 장소 검색 병렬 조회 전용 스레드 풀 (카테고리/키워드별 카카오 검색)
+     * 풀 크기가 곧 카카오 장소 검색 API 동시 호출 상한이 된다.
+     */
+    @Bean(name = "placeSearchExecutor")
+    public ThreadPoolTaskExecutor placeSearchExecutor(
+            @Value("${place-search.fan-out.max-concurrency:8}") int maxConcurrency,
+            @Value("${place-search.fan-out.queue-capacity:200}") int queueCapacity) {
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(maxConcurrency);
+        executor.setMaxPoolSize(maxConcurrency);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("place-search-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+
+        log.info("장소 검색 스레드 풀 설정 - 동시 호출 상한: {}, 대기열: {}", maxConcurrency, queueCapacity);
+        return executor;
+    }
+}
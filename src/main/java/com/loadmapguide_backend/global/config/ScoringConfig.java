@@ -0,0 +1,10 @@
+package com.loadmapguide_backend.global.config;
+
+import com.loadmapguide_backend.global.scoring.ScoringProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(ScoringProperties.class)
+public class ScoringConfig {
+}
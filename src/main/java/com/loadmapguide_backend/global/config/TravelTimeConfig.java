@@ -0,0 +1,10 @@
+package com.loadmapguide_backend.global.config;
+
+import com.loadmapguide_backend.domain.location.service.TravelTimeProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(TravelTimeProperties.class)
+public class TravelTimeConfig {
+}
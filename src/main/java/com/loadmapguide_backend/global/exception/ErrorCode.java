@@ -16,6 +16,12 @@ public enum ErrorCode {
     INVALID_LOCATION("INVALID_LOCATION", "올바르지 않은 위치 정보입니다.", HttpStatus.BAD_REQUEST),
     LOCATION_NOT_FOUND("LOCATION_NOT_FOUND", "해당 위치를 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
     LOCATION_CALCULATION_FAILED("LOCATION_CALCULATION_FAILED", "중간지점 계산에 실패했습니다.", HttpStatus.INTERNAL_SERVER_ERROR),
+    BULK_CALCULATION_BUSY("BULK_CALCULATION_BUSY", "진행 중인 대량 계산이 많습니다. 잠시 후 다시 시도해주세요.", HttpStatus.SERVICE_UNAVAILABLE),
+    
+    // Session
+    SESSION_NOT_FOUND("SESSION_NOT_FOUND", "해당 세션을 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
+    SESSION_EXPIRED("SESSION_EXPIRED", "만료된 세션입니다.", HttpStatus.GONE),
+    SESSION_CONFLICT("SESSION_CONFLICT", "다른 요청이 세션을 먼저 변경했습니다. 다시 시도해주세요.", HttpStatus.CONFLICT),
     
     // Place
     PLACE_SEARCH_FAILED("PLACE_SEARCH_FAILED", "장소 검색에 실패했습니다.", HttpStatus.INTERNAL_SERVER_ERROR),
@@ -1,5 +1,6 @@
 package com.loadmapguide_backend.global.external.kakao;
 
+import com.loadmapguide_backend.global.common.util.GeoUtils;
 import com.loadmapguide_backend.global.exception.BusinessException;
 import com.loadmapguide_backend.global.exception.ErrorCode;
 import com.loadmapguide_backend.global.external.kakao.dto.KakaoCoordinateResponse;
@@ -111,6 +112,31 @@ public class KakaoMapApiClient {
         }
     }
     
+    /**
+     * 좌표를 주소로 변환 (역지오코딩, 비동기)
+     * 호출 스레드를 막지 않으며 동기 버전과 같은 캐시 키를 사용한다
+     */
+    @Cacheable(value = "geocoding", key = "'reverse:' + #longitude + ':' + #latitude")
+    public Mono<KakaoCoordinateResponse> getAddressByCoordinateAsync(Double longitude, Double latitude) {
+        log.debug("카카오 역지오코딩 API 비동기 호출: ({}, {})", latitude, longitude);
+        
+        return kakaoWebClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/v2/local/geo/coord2address.json")
+                        .queryParam("x", longitude)
+                        .queryParam("y", latitude)
+                        .build())
+                .retrieve()
+                .bodyToMono(KakaoCoordinateResponse.class)
+                .timeout(Duration.ofSeconds(5))
+                .retryWhen(Retry.backoff(2, Duration.ofMillis(500)))
+                .doOnSuccess(response -> log.debug("역지오코딩 성공: ({}, {}) -> 결과 {}개", 
+                        latitude, longitude, response.getMeta().getTotalCount()))
+                .doOnError(error -> log.error("역지오코딩 실패: ({}, {})", latitude, longitude, error))
+                .onErrorMap(error -> !(error instanceof BusinessException),
+                        error -> new BusinessException(ErrorCode.EXTERNAL_API_ERROR, error));
+    }
+    
     /**
      * 키워드로 장소 검색
      */
@@ -281,7 +307,7 @@ public class KakaoMapApiClient {
                                              Double destLng, Double destLat) {
         try {
             // 직선거리 계산 (하버사인 공식)
-            double distance = calculateDistance(originLat, originLng, destLat, destLng);
+            double distance = GeoUtils.haversineMeters(originLat, originLng, destLat, destLng);
             
             // 대중교통 평균 속도를 25km/h로 가정 (환승 시간 포함)
             // 최소 10분, 최대 120분으로 제한
@@ -303,7 +329,7 @@ public class KakaoMapApiClient {
     public Integer calculateWalkingTime(Double originLng, Double originLat, 
                                       Double destLng, Double destLat) {
         try {
-            double distance = calculateDistance(originLat, originLng, destLat, destLng);
+            double distance = GeoUtils.haversineMeters(originLat, originLng, destLat, destLng);
             
             // 평균 도보 속도 4km/h 가정
             int walkingMinutes = (int) Math.max(5, (distance / 1000.0) * 15);
@@ -318,24 +344,6 @@ public class KakaoMapApiClient {
         }
     }
     
-    /**
-     * 두 좌표 간 직선거리 계산 (하버사인 공식)
-     */
-    private double calculateDistance(double lat1, double lon1, double lat2, double lon2) {
-        final int R = 6371; // 지구 반지름 (km)
-        
-        double latDistance = Math.toRadians(lat2 - lat1);
-        double lonDistance = Math.toRadians(lon2 - lon1);
-        
-        double a = Math.sin(latDistance / 2) * Math.sin(latDistance / 2)
-                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
-                * Math.sin(lonDistance / 2) * Math.sin(lonDistance / 2);
-                
-        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
-        
-        return R * c * 1000; // 미터로 변환
-    }
-
     /**
      * API 응답 유효성 검증
      */
@@ -0,0 +1,32 @@
+package com.loadmapguide_backend.global.scoring;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 점수 모델 특성 추출기
+ *
+ * @param <T> 특성을 추출할 대상
+ */
+public interface FeatureExtractor<T> {
+    
+    ScoringFeature getFeature();
+    
+    /**
+     * 특성 값 추출 (0-100)
+     */
+    double extract(T subject);
+    
+    static <T> FeatureExtractor<T> of(ScoringFeature feature, ToDoubleFunction<T> function) {
+        return new FeatureExtractor<>() {
+            @Override
+            public ScoringFeature getFeature() {
+                return feature;
+            }
+            
+            @Override
+            public double extract(T subject) {
+                return function.applyAsDouble(subject);
+            }
+        };
+    }
+}
@@ -0,0 +1,23 @@
+package com.loadmapguide_backend.global.scoring;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 점수 모델 특성 (모든 값은 0-100으로 정규화해서 추출)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ScoringFeature {
+    
+    TRAVEL_TIME("이동시간"),
+    FAIRNESS("공평성"),
+    COMMERCIAL_DENSITY("상권 밀집도"),
+    WEATHER("날씨"),
+    PLACE_AVAILABILITY("영업 여부"),
+    DISTANCE("거리"),
+    RATING("평점"),
+    REVIEW_COUNT("리뷰 수");
+    
+    private final String description;
+}
@@ -0,0 +1,109 @@
+package com.loadmapguide_backend.global.scoring;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 가중치 점수 모델 (설정의 가중치를 시작 시 배열로 컴파일)
+ * 특성 값은 {@link ScoringFeature} 순서의 double 배열로 미리 추출해 두고,
+ * 점수는 가중치가 0이 아닌 특성만 도는 내적으로 계산한다.
+ */
+public final class ScoringModel {
+    
+    public static final int FEATURE_COUNT = ScoringFeature.values().length;
+    
+    private final String name;
+    private final int[] featureIndexes;
+    private final double[] weights;
+    private final boolean[] used;
+    
+    private ScoringModel(String name, int[] featureIndexes, double[] weights) {
+        this.name = name;
+        this.featureIndexes = featureIndexes;
+        this.weights = weights;
+        this.used = new boolean[FEATURE_COUNT];
+        for (int index : featureIndexes) {
+            used[index] = true;
+        }
+    }
+    
+    public static ScoringModel compile(String name, Map<ScoringFeature, Double> weights) {
+        List<ScoringFeature> features = new ArrayList<>();
+        for (ScoringFeature feature : ScoringFeature.values()) {
+            Double weight = weights.get(feature);
+            if (weight != null && weight != 0.0) {
+                features.add(feature);
+            }
+        }
+        
+        int[] featureIndexes = new int[features.size()];
+        double[] compiledWeights = new double[features.size()];
+        for (int i = 0; i < features.size(); i++) {
+            featureIndexes[i] = features.get(i).ordinal();
+            compiledWeights[i] = weights.get(features.get(i));
+        }
+        return new ScoringModel(name, featureIndexes, compiledWeights);
+    }
+    
+    public String getName() {
+        return name;
+    }
+    
+    /**
+     * 모든 가중치가 0 이상인지 여부 (특성 값의 상한으로 점수 상한을 구할 수 있음)
+     */
+    public boolean isMonotone() {
+        for (double weight : weights) {
+            if (weight < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * 특성 사용 여부 (가중치가 0인 특성은 추출을 생략할 수 있다)
+     */
+    public boolean uses(ScoringFeature feature) {
+        return used[feature.ordinal()];
+    }
+    
+    /**
+     * 단일 대상 점수 계산
+     *
+     * @param features {@link ScoringFeature} 순서의 특성 값 (길이 {@link #FEATURE_COUNT})
+     */
+    public double score(double[] features) {
+        return score(features, 0);
+    }
+    
+    /**
+     * 여러 대상 점수 일괄 계산
+     *
+     * @param features 대상별 특성 값을 이어 붙인 배열 (대상 i의 특성 f는 features[i * FEATURE_COUNT + f])
+     */
+    public void scoreAll(double[] features, int count, double[] scores) {
+        for (int i = 0; i < count; i++) {
+            scores[i] = score(features, i * FEATURE_COUNT);
+        }
+    }
+    
+    /**
+     * 모델에서 사용하는 특성만 추출 (나머지는 0)
+     */
+    public <T> void extract(T subject, List<FeatureExtractor<T>> extractors, double[] features, int offset) {
+        for (FeatureExtractor<T> extractor : extractors) {
+            int index = extractor.getFeature().ordinal();
+            features[offset + index] = used[index] ? extractor.extract(subject) : 0.0;
+        }
+    }
+    
+    private double score(double[] features, int offset) {
+        double score = 0.0;
+        for (int k = 0; k < featureIndexes.length; k++) {
+            score += weights[k] * features[offset + featureIndexes[k]];
+        }
+        return score;
+    }
+}
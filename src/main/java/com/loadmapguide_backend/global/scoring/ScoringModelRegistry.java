@@ -0,0 +1,57 @@
+package com.loadmapguide_backend.global.scoring;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 점수 모델 저장소
+ * 시작 시 설정의 모델/프로필 가중치를 모두 컴파일해 두고, 요청 시에는 조회만 한다.
+ */
+@Slf4j
+@Component
+public class ScoringModelRegistry {
+    
+    public static final String MIDDLE_POINT = "middle-point";
+    public static final String PLACE_RECOMMENDATION = "place-recommendation";
+    
+    private final Map<String, ScoringModel> models = new HashMap<>();
+    private final Map<String, Map<String, ScoringModel>> profiles = new HashMap<>();
+    
+    public ScoringModelRegistry(ScoringProperties properties) {
+        properties.getModels().forEach((name, weights) -> models.put(name, ScoringModel.compile(name, weights)));
+        properties.getProfiles().forEach((profile, profileModels) -> {
+            Map<String, ScoringModel> compiled = new HashMap<>();
+            profileModels.forEach((name, weights) -> compiled.put(name, ScoringModel.compile(name, weights)));
+            profiles.put(profile, compiled);
+        });
+        
+        log.info("점수 모델 로딩 완료 - 모델: {}, 프로필: {}", models.keySet(), profiles.keySet());
+    }
+    
+    /**
+     * 기본 모델 조회
+     */
+    public ScoringModel getModel(String name) {
+        ScoringModel model = models.get(name);
+        if (model == null) {
+            throw new IllegalStateException("점수 모델을 찾을 수 없습니다: " + name);
+        }
+        return model;
+    }
+    
+    /**
+     * 프로필 모델 조회 (프로필에 해당 모델이 없으면 기본 모델)
+     */
+    public ScoringModel getModel(String name, String profile) {
+        if (profile != null) {
+            Map<String, ScoringModel> profileModels = profiles.get(profile);
+            if (profileModels != null && profileModels.containsKey(name)) {
+                return profileModels.get(name);
+            }
+        }
+        return getModel(name);
+    }
+}
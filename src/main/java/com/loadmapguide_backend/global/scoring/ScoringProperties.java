@@ -0,0 +1,39 @@
+package com.loadmapguide_backend.global.scoring;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 점수 모델 가중치 설정
+ * models는 모델별 기본 가중치, profiles는 프로필(제휴사 등)별로 덮어쓸 모델 가중치
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "scoring")
+public class ScoringProperties {
+    
+    private Map<String, Map<ScoringFeature, Double>> models = new HashMap<>(defaultModels());
+    
+    private Map<String, Map<String, Map<ScoringFeature, Double>>> profiles = new HashMap<>();
+    
+    private static Map<String, Map<ScoringFeature, Double>> defaultModels() {
+        Map<ScoringFeature, Double> middlePoint = new EnumMap<>(ScoringFeature.class);
+        middlePoint.put(ScoringFeature.TRAVEL_TIME, 0.5);
+        middlePoint.put(ScoringFeature.COMMERCIAL_DENSITY, 0.3);
+        middlePoint.put(ScoringFeature.FAIRNESS, 0.2);
+        
+        Map<ScoringFeature, Double> placeRecommendation = new EnumMap<>(ScoringFeature.class);
+        placeRecommendation.put(ScoringFeature.DISTANCE, 0.3);
+        placeRecommendation.put(ScoringFeature.RATING, 0.4);
+        placeRecommendation.put(ScoringFeature.REVIEW_COUNT, 0.3);
+        
+        return Map.of(
+                ScoringModelRegistry.MIDDLE_POINT, middlePoint,
+                ScoringModelRegistry.PLACE_RECOMMENDATION, placeRecommendation);
+    }
+}
@@ -0,0 +1,2 @@
+-- 세션 후보지점 이동시간 행렬 (참여자 추가/이동/삭제 시 증분 재계산용)
+ALTER TABLE meeting_sessions ADD COLUMN IF NOT EXISTS candidate_matrix json;
@@ -0,0 +1,15 @@
+-- 장소/위치 좌표 공간 인덱스 (반경 검색 ST_DWithin, 거리순 정렬 KNN <-> 를 인덱스로 처리)
+-- geog 컬럼은 위경도에서 자동 생성되므로 엔티티에 매핑하지 않는다
+CREATE EXTENSION IF NOT EXISTS postgis;
+
+ALTER TABLE places ADD COLUMN IF NOT EXISTS geog geography(Point, 4326)
+    GENERATED ALWAYS AS (CAST(ST_SetSRID(ST_MakePoint(longitude, latitude), 4326) AS geography)) STORED;
+CREATE INDEX IF NOT EXISTS idx_places_geog ON places USING GIST (geog);
+CREATE INDEX IF NOT EXISTS idx_places_category ON places (category);
+-- 위경도 범위 조회(BETWEEN)용
+CREATE INDEX IF NOT EXISTS idx_places_lat_lng ON places (latitude, longitude);
+
+ALTER TABLE location_points ADD COLUMN IF NOT EXISTS geog geography(Point, 4326)
+    GENERATED ALWAYS AS (CAST(ST_SetSRID(ST_MakePoint(longitude, latitude), 4326) AS geography)) STORED;
+CREATE INDEX IF NOT EXISTS idx_location_points_geog ON location_points USING GIST (geog);
+CREATE INDEX IF NOT EXISTS idx_location_points_lat_lng ON location_points (latitude, longitude);
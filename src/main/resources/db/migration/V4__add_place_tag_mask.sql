@@ -0,0 +1,38 @@
+-- 장소 태그 비트마스크 (PlaceTag 선언 순서 = 비트 위치, 태그 AND/OR 조건을 비트 연산으로 검색)
+ALTER TABLE places ADD COLUMN IF NOT EXISTS tag_mask bigint NOT NULL DEFAULT 0;
+
+UPDATE places p SET tag_mask = COALESCE((
+    SELECT bit_or(CAST(1 AS bigint) << CASE t.tag
+            WHEN 'QUIET_STUDY' THEN 0
+            WHEN 'STUDY_CAFE' THEN 1
+            WHEN 'WIFI_GOOD' THEN 2
+            WHEN 'POWER_OUTLET' THEN 3
+            WHEN 'OPEN_24H' THEN 4
+            WHEN 'LIBRARY' THEN 5
+            WHEN 'TASTY_FOOD' THEN 6
+            WHEN 'GOOD_VALUE' THEN 7
+            WHEN 'NICE_ATMOSPHERE' THEN 8
+            WHEN 'GROUP_FRIENDLY' THEN 9
+            WHEN 'RESERVATION_NEEDED' THEN 10
+            WHEN 'LATE_NIGHT' THEN 11
+            WHEN 'KARAOKE' THEN 12
+            WHEN 'BOWLING' THEN 13
+            WHEN 'CINEMA' THEN 14
+            WHEN 'ARCADE' THEN 15
+            WHEN 'BOARD_GAME' THEN 16
+            WHEN 'ESCAPE_ROOM' THEN 17
+            WHEN 'CONVERSATION' THEN 18
+            WHEN 'SPACIOUS' THEN 19
+            WHEN 'PARKING' THEN 20
+            WHEN 'NICE_VIEW' THEN 21
+            WHEN 'OUTDOOR' THEN 22
+            WHEN 'SUBWAY_NEAR' THEN 23
+            WHEN 'BUS_NEAR' THEN 24
+            WHEN 'WALK_ACCESSIBLE' THEN 25
+            WHEN 'BUDGET_FRIENDLY' THEN 26
+            WHEN 'MID_RANGE' THEN 27
+            WHEN 'PREMIUM' THEN 28
+        END)
+    FROM place_tags t
+    WHERE t.place_id = p.id
+), 0);
@@ -0,0 +1,2 @@
+-- 세션 낙관적 잠금 버전 (참여자 추가/이동/삭제가 JSON 컬럼 전체를 덮어쓰므로 동시 변경 감지)
+ALTER TABLE meeting_sessions ADD COLUMN IF NOT EXISTS version bigint NOT NULL DEFAULT 0;
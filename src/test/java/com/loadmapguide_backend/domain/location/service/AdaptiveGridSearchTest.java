@@ -0,0 +1,132 @@
+package com.loadmapguide_backend.domain.location.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 적응형 격자 탐색 수렴/평가 상한/방문 지점 중복 제거 검증
+ */
+class AdaptiveGridSearchTest {
+
+    // 서울시청 기준
+    private static final double START_LAT = 37.5665;
+    private static final double START_LNG = 126.9780;
+
+    private final AdaptiveGridSearch search = new AdaptiveGridSearch();
+
+    @Test
+    void convergesToMaximumOfConcaveScore() {
+        double targetLat = START_LAT + 0.0123;
+        double targetLng = START_LNG - 0.0077;
+
+        AdaptiveGridSearch.SearchResult<double[]> result = search.search(
+                START_LAT, START_LNG, 0.04,
+                (lats, lngs, count) -> points(lats, lngs, count),
+                point -> -squaredDistance(point, targetLat, targetLng));
+
+        double[] best = best(result.getEvaluatedCandidates(), targetLat, targetLng);
+        // 최소 탐색 간격(약 50m) 단위로 수렴
+        assertThat(Math.abs(best[0] - targetLat)).isLessThanOrEqualTo(0.0005);
+        assertThat(Math.abs(best[1] - targetLng)).isLessThanOrEqualTo(0.0005);
+        assertThat(result.getEvaluationCount()).isLessThan(80);
+    }
+
+    @Test
+    void stopsAtMaxEvaluations() {
+        List<Integer> batchSizes = new ArrayList<>();
+
+        // 북동쪽으로 갈수록 점수가 계속 오르므로 평가 상한 전까지 수렴하지 않음
+        AdaptiveGridSearch.SearchResult<double[]> result = search.search(
+                START_LAT, START_LNG, 0.04,
+                (lats, lngs, count) -> {
+                    batchSizes.add(count);
+                    return points(lats, lngs, count);
+                },
+                point -> point[0] + point[1]);
+
+        assertThat(result.getEvaluationCount()).isEqualTo(80);
+        assertThat(result.getEvaluatedCandidates()).hasSize(80);
+        assertThat(batchSizes.stream().mapToInt(Integer::intValue).sum()).isEqualTo(80);
+    }
+
+    @Test
+    void neverEvaluatesSamePointTwice() {
+        double targetLat = START_LAT + 0.0123;
+        double targetLng = START_LNG - 0.0077;
+        Set<String> visited = new HashSet<>();
+        List<String> duplicates = new ArrayList<>();
+
+        AdaptiveGridSearch.SearchResult<double[]> result = search.search(
+                START_LAT, START_LNG, 0.04,
+                (lats, lngs, count) -> {
+                    for (int i = 0; i < count; i++) {
+                        // 부동소수점 누적 오차가 있어도 같은 격자점은 같은 키가 되도록 반올림
+                        String key = Math.round(lats[i] * 1_000_000) + ":" + Math.round(lngs[i] * 1_000_000);
+                        if (!visited.add(key)) {
+                            duplicates.add(key);
+                        }
+                    }
+                    return points(lats, lngs, count);
+                },
+                point -> -squaredDistance(point, targetLat, targetLng));
+
+        assertThat(duplicates).isEmpty();
+        assertThat(visited).hasSize(result.getEvaluationCount());
+    }
+
+    @Test
+    void halvesStepUntilMinimumWithoutImprovement() {
+        // 점수가 모두 같으면 매 반복 8방향만 평가하고 간격을 절반으로 줄임 (0.01 → 0.000625, 5회)
+        AdaptiveGridSearch.SearchResult<double[]> result = search.search(
+                START_LAT, START_LNG, 0.04,
+                (lats, lngs, count) -> points(lats, lngs, count),
+                point -> 0.0);
+
+        assertThat(result.getInitialStepDegrees()).isEqualTo(0.01);
+        assertThat(result.getIterationCount()).isEqualTo(5);
+        assertThat(result.getEvaluationCount()).isEqualTo(1 + 8 * 5);
+    }
+
+    @Test
+    void doesNotRefineBelowResolution() {
+        // 격자 간격(0.009도)보다 좁히지 않으므로 초기 간격 한 번만 평가
+        AdaptiveGridSearch.SearchResult<double[]> result = search.search(
+                START_LAT, START_LNG, 0.004, 0.009,
+                (lats, lngs, count) -> points(lats, lngs, count),
+                point -> 0.0);
+
+        assertThat(result.getInitialStepDegrees()).isEqualTo(0.009);
+        assertThat(result.getIterationCount()).isEqualTo(1);
+        assertThat(result.getEvaluationCount()).isEqualTo(9);
+    }
+
+    private static List<double[]> points(double[] lats, double[] lngs, int count) {
+        List<double[]> points = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            points.add(new double[]{lats[i], lngs[i]});
+        }
+        return points;
+    }
+
+    private static double squaredDistance(double[] point, double lat, double lng) {
+        double dLat = point[0] - lat;
+        double dLng = point[1] - lng;
+        return dLat * dLat + dLng * dLng;
+    }
+
+    private static double[] best(List<double[]> points, double targetLat, double targetLng) {
+        double[] best = points.get(0);
+        for (double[] point : points) {
+            if (squaredDistance(point, targetLat, targetLng) < squaredDistance(best, targetLat, targetLng)) {
+                best = point;
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,109 @@
+package com.loadmapguide_backend.domain.location.service;
+
+import com.loadmapguide_backend.domain.location.dto.MiddlePointResponse;
+import com.loadmapguide_backend.domain.location.entity.LocationPoint;
+import com.loadmapguide_backend.global.common.enums.MidpointStrategyType;
+import com.loadmapguide_backend.global.common.enums.TransportationType;
+import com.loadmapguide_backend.global.scoring.ScoringModelRegistry;
+import com.loadmapguide_backend.global.scoring.ScoringProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 점수 상한 가지치기 검증
+ * 가지치기를 켜도 끈 것과 같은 상위 후보지점이 나와야 한다 (직선거리 추정, 외부 협력 객체 없이 계산).
+ */
+class MiddlePointCalculatorPruningTest {
+
+    private MiddlePointCalculator pruningCalculator;
+    private MiddlePointCalculator exhaustiveCalculator;
+
+    @BeforeEach
+    void setUp() {
+        CommercialAreaIndex commercialAreaIndex = new CommercialAreaIndex(
+                new DefaultResourceLoader(), "classpath:data/commercial-hotspots.csv");
+        commercialAreaIndex.load();
+
+        pruningCalculator = calculator(commercialAreaIndex, true);
+        exhaustiveCalculator = calculator(commercialAreaIndex, false);
+    }
+
+    @Test
+    void pruningKeepsTopCandidatesForPublicTransport() {
+        List<LocationPoint> participants = List.of(
+                point(37.4979, 127.0276),  // 강남
+                point(37.5563, 126.9236),  // 홍대입구
+                point(37.5704, 126.9921),  // 종로3가
+                point(37.5133, 127.1001),  // 잠실
+                point(37.5443, 127.0557)); // 성수
+
+        assertSameTopCandidates(participants, TransportationType.PUBLIC_TRANSPORT, MidpointStrategyType.CENTROID);
+    }
+
+    @Test
+    void pruningKeepsTopCandidatesForWalk() {
+        List<LocationPoint> participants = List.of(
+                point(37.5665, 126.9780),  // 서울시청
+                point(37.5700, 126.9830),
+                point(37.5610, 126.9850));
+
+        assertSameTopCandidates(participants, TransportationType.WALK, MidpointStrategyType.GEOMETRIC_MEDIAN);
+    }
+
+    private void assertSameTopCandidates(List<LocationPoint> participants,
+                                         TransportationType transportationType,
+                                         MidpointStrategyType strategyType) {
+        MiddlePointResponse pruned = pruningCalculator.calculateForCoordinates(
+                participants, transportationType, null, strategyType, points -> points);
+        MiddlePointResponse exhaustive = exhaustiveCalculator.calculateForCoordinates(
+                participants, transportationType, null, strategyType, points -> points);
+
+        assertThat(exhaustive.getCandidateLocations()).hasSize(5);
+        assertThat(describe(pruned.getCandidateLocations()))
+                .containsExactlyElementsOf(describe(exhaustive.getCandidateLocations()));
+    }
+
+    private static List<String> describe(List<MiddlePointResponse.LocationPoint> candidates) {
+        return candidates.stream()
+                .map(candidate -> String.format("%.7f,%.7f,%.6f",
+                        candidate.getLatitude(), candidate.getLongitude(), candidate.getOverallScore()))
+                .collect(Collectors.toList());
+    }
+
+    private static MiddlePointCalculator calculator(CommercialAreaIndex commercialAreaIndex, boolean pruning) {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        return new MiddlePointCalculator(
+                null,
+                null,
+                null,
+                null,
+                new AdaptiveGridSearch(),
+                commercialAreaIndex,
+                List.of(new CentroidMidpointStrategy(), new GeometricMedianMidpointStrategy(),
+                        new MinimaxMidpointStrategy()),
+                List.of(new StraightLineTravelTimeMatrixProvider()),
+                new TravelTimeProperties(),
+                new MiddlePointResultCache(new ConcurrentMapCacheManager(), meterRegistry, false, 50),
+                new ScoringModelRegistry(new ScoringProperties()),
+                null,
+                new TravelTimeLowerBound(),
+                pruning,
+                Runnable::run,
+                meterRegistry);
+    }
+
+    private static LocationPoint point(double latitude, double longitude) {
+        return LocationPoint.builder()
+                .latitude(latitude)
+                .longitude(longitude)
+                .build();
+    }
+}
@@ -0,0 +1,147 @@
+package com.loadmapguide_backend.domain.location.service;
+
+import com.loadmapguide_backend.global.common.enums.MidpointStrategyType;
+import com.loadmapguide_backend.global.common.enums.TransportationType;
+import com.loadmapguide_backend.global.common.enums.TravelTimeSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 중간지점 결과 캐시 키 검증 (참여자 순서/격자 내 좌표 차이 무시, 계산 조건 변경 시 다른 키)
+ */
+class MiddlePointResultCacheTest {
+
+    private static final double PRECISION_METERS = 50;
+    private static final double LAT_STEP = PRECISION_METERS / 111_320.0;
+    private static final double JITTER_DEGREES = 0.00005; // 약 5m (격자 반 칸보다 작음)
+
+    private final MiddlePointResultCache cache = new MiddlePointResultCache(
+            new ConcurrentMapCacheManager("middlePoints"), new SimpleMeterRegistry(), true, PRECISION_METERS);
+
+    // 격자 중앙 좌표 (서울시청, 강남, 홍대입구 부근)
+    private final double[][] participants = {
+            cellCenter(37.5665, 126.9780),
+            cellCenter(37.4979, 127.0276),
+            cellCenter(37.5563, 126.9236)
+    };
+
+    @Test
+    void sameKeyForPermutedParticipants() {
+        int[] order = {2, 0, 1};
+        double[] latitudes = new double[order.length];
+        double[] longitudes = new double[order.length];
+        for (int i = 0; i < order.length; i++) {
+            latitudes[i] = participants[order[i]][0];
+            longitudes[i] = participants[order[i]][1];
+        }
+
+        assertThat(cache.createKey(latitudes, longitudes, latitudes.length,
+                TransportationType.PUBLIC_TRANSPORT, modes(TransportationType.PUBLIC_TRANSPORT),
+                MidpointStrategyType.CENTROID, sources(TravelTimeSource.STRAIGHT_LINE), null))
+                .isEqualTo(key(TransportationType.PUBLIC_TRANSPORT, TravelTimeSource.STRAIGHT_LINE, null));
+    }
+
+    @Test
+    void sameKeyForJitterWithinCell() {
+        double[] latitudes = latitudes();
+        double[] longitudes = longitudes();
+        for (int i = 0; i < latitudes.length; i++) {
+            latitudes[i] += (i % 2 == 0 ? 1 : -1) * JITTER_DEGREES;
+            longitudes[i] -= (i % 2 == 0 ? 1 : -1) * JITTER_DEGREES;
+        }
+
+        assertThat(cache.createKey(latitudes, longitudes, latitudes.length,
+                TransportationType.PUBLIC_TRANSPORT, modes(TransportationType.PUBLIC_TRANSPORT),
+                MidpointStrategyType.CENTROID, sources(TravelTimeSource.STRAIGHT_LINE), null))
+                .isEqualTo(key(TransportationType.PUBLIC_TRANSPORT, TravelTimeSource.STRAIGHT_LINE, null));
+    }
+
+    @Test
+    void differentKeyForMovedParticipant() {
+        double[] latitudes = latitudes();
+        latitudes[0] += LAT_STEP;
+
+        assertThat(cache.createKey(latitudes, longitudes(), latitudes.length,
+                TransportationType.PUBLIC_TRANSPORT, modes(TransportationType.PUBLIC_TRANSPORT),
+                MidpointStrategyType.CENTROID, sources(TravelTimeSource.STRAIGHT_LINE), null))
+                .isNotEqualTo(key(TransportationType.PUBLIC_TRANSPORT, TravelTimeSource.STRAIGHT_LINE, null));
+    }
+
+    @Test
+    void differentKeyForChangedModeSourceOrProfile() {
+        String base = key(TransportationType.PUBLIC_TRANSPORT, TravelTimeSource.STRAIGHT_LINE, null);
+
+        assertThat(key(TransportationType.CAR, TravelTimeSource.STRAIGHT_LINE, null)).isNotEqualTo(base);
+        assertThat(key(TransportationType.PUBLIC_TRANSPORT, TravelTimeSource.SUBWAY_GRAPH, null)).isNotEqualTo(base);
+        assertThat(key(TransportationType.PUBLIC_TRANSPORT, TravelTimeSource.STRAIGHT_LINE, "commute"))
+                .isNotEqualTo(base);
+
+        // 한 참여자의 교통수단만 달라도 다른 키
+        TransportationType[] mixedModes = modes(TransportationType.PUBLIC_TRANSPORT);
+        mixedModes[1] = TransportationType.WALK;
+        assertThat(cache.createKey(latitudes(), longitudes(), participants.length,
+                TransportationType.PUBLIC_TRANSPORT, mixedModes,
+                MidpointStrategyType.CENTROID, sources(TravelTimeSource.STRAIGHT_LINE), null))
+                .isNotEqualTo(base);
+
+        // 계산 전략이 달라도 다른 키
+        assertThat(cache.createKey(latitudes(), longitudes(), participants.length,
+                TransportationType.PUBLIC_TRANSPORT, modes(TransportationType.PUBLIC_TRANSPORT),
+                MidpointStrategyType.GEOMETRIC_MEDIAN, sources(TravelTimeSource.STRAIGHT_LINE), null))
+                .isNotEqualTo(base);
+    }
+
+    @Test
+    void noKeyWhenDisabled() {
+        MiddlePointResultCache disabled = new MiddlePointResultCache(
+                new ConcurrentMapCacheManager("middlePoints"), new SimpleMeterRegistry(), false, PRECISION_METERS);
+
+        assertThat(disabled.createKey(latitudes(), longitudes(), participants.length,
+                TransportationType.PUBLIC_TRANSPORT, modes(TransportationType.PUBLIC_TRANSPORT),
+                MidpointStrategyType.CENTROID, sources(TravelTimeSource.STRAIGHT_LINE), null))
+                .isNull();
+    }
+
+    private String key(TransportationType transportationType, TravelTimeSource source, String scoringProfile) {
+        return cache.createKey(latitudes(), longitudes(), participants.length,
+                transportationType, modes(transportationType),
+                MidpointStrategyType.CENTROID, sources(source), scoringProfile);
+    }
+
+    private double[] latitudes() {
+        return Arrays.stream(participants).mapToDouble(point -> point[0]).toArray();
+    }
+
+    private double[] longitudes() {
+        return Arrays.stream(participants).mapToDouble(point -> point[1]).toArray();
+    }
+
+    private TransportationType[] modes(TransportationType transportationType) {
+        TransportationType[] modes = new TransportationType[participants.length];
+        Arrays.fill(modes, transportationType);
+        return modes;
+    }
+
+    private TravelTimeSource[] sources(TravelTimeSource source) {
+        TravelTimeSource[] sources = new TravelTimeSource[participants.length];
+        Arrays.fill(sources, source);
+        return sources;
+    }
+
+    /**
+     * 좌표가 속한 캐시 격자의 중앙 (격자 경계에서 흔들려 키가 바뀌지 않도록)
+     */
+    private static double[] cellCenter(double latitude, double longitude) {
+        double latCell = Math.floor(latitude / LAT_STEP);
+        double lngStep = LAT_STEP / Math.cos(Math.toRadians(latCell * LAT_STEP));
+        return new double[]{
+                (latCell + 0.5) * LAT_STEP,
+                (Math.floor(longitude / lngStep) + 0.5) * lngStep
+        };
+    }
+}
@@ -0,0 +1,116 @@
+package com.loadmapguide_backend.domain.location.service;
+
+import com.loadmapguide_backend.global.common.util.GeoUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * 지하철 노선망 최단 시간 검증 (소형 노선 데이터, 정점 번호는 파일에 처음 나온 (노선, 역) 순서)
+ */
+class SubwayNetworkTest {
+
+    // 정점 번호
+    private static final int A1 = 0;
+    private static final int TRANSFER_A = 1;
+    private static final int A3 = 2;
+    private static final int B1 = 3;
+    private static final int TRANSFER_B = 4;
+    private static final int R1 = 5;
+    private static final int R2 = 6;
+    private static final int R3 = 7;
+    private static final int C1 = 8;
+    private static final int C2 = 9;
+
+    private static final double BOARDING_WAIT_MINUTES = 3.0;
+    private static final double TRANSFER_MINUTES = 4.0;
+
+    private SubwayNetwork network;
+
+    @BeforeEach
+    void setUp() {
+        network = new SubwayNetwork(new DefaultResourceLoader(), "classpath:data/subway-network-test.csv");
+        network.load();
+    }
+
+    @Test
+    void reusesVertexForRingLineClosingRow() {
+        // 순환선 마지막 행(R1)은 새 정점이 아니라 첫 역 정점으로 연결
+        assertThat(network.size()).isEqualTo(10);
+
+        double[] minutes = shortestMinutesFrom(37.6000, 127.0000);
+
+        // R1 → R3는 R2를 거치지 않고 마지막 행이 만든 간선으로 바로 이동
+        assertThat(minutes[R1]).isCloseTo(BOARDING_WAIT_MINUTES, within(1e-9));
+        assertThat(minutes[R3]).isCloseTo(BOARDING_WAIT_MINUTES + ride(37.6000, 127.0000, 37.6200, 127.0200),
+                within(1e-9));
+        assertThat(minutes[R2]).isCloseTo(BOARDING_WAIT_MINUTES + ride(37.6000, 127.0000, 37.6000, 127.0200),
+                within(1e-9));
+    }
+
+    @Test
+    void transfersBetweenLinesAtSameStationName() {
+        double[] minutes = shortestMinutesFrom(37.5000, 127.0000);
+
+        double atTransferA = BOARDING_WAIT_MINUTES + ride(37.5000, 127.0000, 37.5000, 127.0200);
+        assertThat(minutes[A1]).isCloseTo(BOARDING_WAIT_MINUTES, within(1e-9));
+        assertThat(minutes[TRANSFER_A]).isCloseTo(atTransferA, within(1e-9));
+        assertThat(minutes[A3]).isCloseTo(atTransferA + ride(37.5000, 127.0200, 37.5000, 127.0400), within(1e-9));
+        assertThat(minutes[TRANSFER_B]).isCloseTo(atTransferA + TRANSFER_MINUTES, within(1e-9));
+        assertThat(minutes[B1]).isCloseTo(atTransferA + TRANSFER_MINUTES + ride(37.5000, 127.0200, 37.5200, 127.0200),
+                within(1e-9));
+    }
+
+    @Test
+    void leavesUnreachableStationsInfinite() {
+        double[] minutes = shortestMinutesFrom(37.5000, 127.0000);
+
+        // 연결되지 않은 순환선/C선과 도보 접근 반경 밖의 역
+        for (int vertex : new int[]{R1, R2, R3, C1, C2}) {
+            assertThat(minutes[vertex]).isInfinite();
+        }
+    }
+
+    @Test
+    void findsNoAccessStationFarFromNetwork() {
+        SubwayNetwork.Workspace workspace = network.newWorkspace();
+        int[] stations = new int[network.size()];
+        double[] walk = new double[network.size()];
+
+        assertThat(network.accessStations(37.4000, 126.9000, stations, walk, workspace)).isZero();
+
+        double[] minutes = new double[network.size()];
+        network.shortestMinutesFrom(37.4000, 126.9000, minutes, workspace);
+        for (double value : minutes) {
+            assertThat(value).isInfinite();
+        }
+    }
+
+    @Test
+    void reusedWorkspaceGivesSameResultAsFreshOne() {
+        SubwayNetwork.Workspace workspace = network.newWorkspace();
+        double[] first = new double[network.size()];
+        double[] reused = new double[network.size()];
+
+        network.shortestMinutesFrom(37.6000, 127.0000, first, workspace);
+        network.shortestMinutesFrom(37.5000, 127.0000, reused, workspace);
+
+        assertThat(reused).containsExactly(shortestMinutesFrom(37.5000, 127.0000));
+    }
+
+    private double[] shortestMinutesFrom(double latitude, double longitude) {
+        double[] minutes = new double[network.size()];
+        network.shortestMinutesFrom(latitude, longitude, minutes, network.newWorkspace());
+        return minutes;
+    }
+
+    /**
+     * 인접역 운행 시간 (표정속도 33km/h + 정차 0.5분)
+     */
+    private static double ride(double fromLat, double fromLng, double toLat, double toLng) {
+        return GeoUtils.haversineMeters(fromLat, fromLng, toLat, toLng) / 33_000.0 * 60.0 + 0.5;
+    }
+}
@@ -0,0 +1,125 @@
+package com.loadmapguide_backend.domain.place.repository;
+
+import com.loadmapguide_backend.domain.location.entity.LocationPoint;
+import com.loadmapguide_backend.domain.location.repository.LocationPointRepository;
+import com.loadmapguide_backend.domain.place.entity.Place;
+import com.loadmapguide_backend.global.common.enums.PlaceCategory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PostGIS 반경/거리순 검색 쿼리 검증 (Docker가 없으면 건너뜀)
+ * 스키마는 엔티티로 생성하고 운영과 같은 V3 마이그레이션으로 공간 컬럼/인덱스를 추가한다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+class PlaceRepositoryPostgisTest {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGIS = new PostgreSQLContainer<>(
+            DockerImageName.parse("postgis/postgis:16-3.4").asCompatibleSubstituteFor("postgres"));
+
+    @DynamicPropertySource
+    static void datasourceProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGIS::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGIS::getUsername);
+        registry.add("spring.datasource.password", POSTGIS::getPassword);
+        registry.add("spring.datasource.driver-class-name", POSTGIS::getDriverClassName);
+        registry.add("spring.jpa.database-platform", () -> "org.hibernate.dialect.PostgreSQLDialect");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+        registry.add("spring.sql.init.mode", () -> "never");
+        registry.add("spring.flyway.enabled", () -> "false");
+    }
+
+    // 서울시청 기준
+    private static final double CENTER_LAT = 37.5665;
+    private static final double CENTER_LNG = 126.9780;
+
+    @Autowired
+    private PlaceRepository placeRepository;
+
+    @Autowired
+    private LocationPointRepository locationPointRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @BeforeEach
+    void applyGeographyMigration() {
+        new ResourceDatabasePopulator(
+                new ClassPathResource("db/migration/V3__add_postgis_geography_indexes.sql"))
+                .execute(dataSource);
+    }
+
+    @Test
+    void findNearbyPlacesFiltersByRadiusAndOrdersByDistance() {
+        placeRepository.save(place("1km 카페", PlaceCategory.CAFE, CENTER_LAT + 0.009, CENTER_LNG));
+        placeRepository.save(place("300m 카페", PlaceCategory.CAFE, CENTER_LAT + 0.0027, CENTER_LNG));
+        placeRepository.save(place("500m 음식점", PlaceCategory.RESTAURANT, CENTER_LAT, CENTER_LNG + 0.0057));
+        placeRepository.save(place("5km 카페", PlaceCategory.CAFE, CENTER_LAT + 0.045, CENTER_LNG));
+        placeRepository.save(place("좌표 없음", PlaceCategory.CAFE, null, null));
+
+        List<Place> nearby = placeRepository.findNearbyPlaces(CENTER_LAT, CENTER_LNG, 2000.0, null, 10);
+
+        assertThat(nearby).extracting(Place::getName)
+                .containsExactly("300m 카페", "500m 음식점", "1km 카페");
+    }
+
+    @Test
+    void findNearbyPlacesAppliesCategoryAndLimit() {
+        placeRepository.save(place("1km 카페", PlaceCategory.CAFE, CENTER_LAT + 0.009, CENTER_LNG));
+        placeRepository.save(place("300m 카페", PlaceCategory.CAFE, CENTER_LAT + 0.0027, CENTER_LNG));
+        placeRepository.save(place("100m 음식점", PlaceCategory.RESTAURANT, CENTER_LAT, CENTER_LNG + 0.0011));
+
+        List<Place> nearby = placeRepository.findNearbyPlaces(
+                CENTER_LAT, CENTER_LNG, 2000.0, PlaceCategory.CAFE.name(), 1);
+
+        assertThat(nearby).extracting(Place::getName).containsExactly("300m 카페");
+    }
+
+    @Test
+    void findNearbyLocationsFiltersByRadiusAndOrdersByDistance() {
+        locationPointRepository.save(location("을지로입구역", CENTER_LAT + 0.0003, CENTER_LNG + 0.0044));
+        locationPointRepository.save(location("시청역", CENTER_LAT - 0.0008, CENTER_LNG - 0.0010));
+        locationPointRepository.save(location("강남역", 37.4979, 127.0276));
+
+        List<LocationPoint> nearby = locationPointRepository.findNearbyLocations(CENTER_LAT, CENTER_LNG, 1000.0, 10);
+
+        assertThat(nearby).extracting(LocationPoint::getAddress)
+                .containsExactly("시청역", "을지로입구역");
+    }
+
+    private static Place place(String name, PlaceCategory category, Double latitude, Double longitude) {
+        return Place.builder()
+                .name(name)
+                .category(category)
+                .latitude(latitude)
+                .longitude(longitude)
+                .build();
+    }
+
+    private static LocationPoint location(String address, double latitude, double longitude) {
+        return LocationPoint.builder()
+                .address(address)
+                .latitude(latitude)
+                .longitude(longitude)
+                .build();
+    }
+}
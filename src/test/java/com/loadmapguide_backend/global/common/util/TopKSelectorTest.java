@@ -0,0 +1,87 @@
+package com.loadmapguide_backend.global.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 상위 k개 선택 결과가 안정 정렬 후 limit과 같은지 무작위 입력으로 검증
+ */
+class TopKSelectorTest {
+
+    private static final long SEED = 20241017L;
+
+    @Test
+    void matchesStableSortAndLimitOnRandomInputs() {
+        Random random = new Random(SEED);
+
+        for (int round = 0; round < 2_000; round++) {
+            int size = random.nextInt(60);
+            // 키 범위를 좁게 잡아 같은 키가 자주 나오도록 함
+            int keyRange = 1 + random.nextInt(10);
+            List<Item> items = randomItems(random, size, keyRange);
+            int k = random.nextInt(size + 10);
+
+            assertThat(TopKSelector.smallest(items, Item::key, k))
+                    .as("size=%d, k=%d, keyRange=%d", size, k, keyRange)
+                    .containsExactlyElementsOf(sortedLimit(items, k));
+        }
+    }
+
+    @Test
+    void returnsEmptyForZeroOrNegativeK() {
+        List<Item> items = randomItems(new Random(SEED), 20, 5);
+
+        assertThat(TopKSelector.smallest(items, Item::key, 0)).isEmpty();
+        assertThat(TopKSelector.smallest(items, Item::key, -1)).isEmpty();
+        assertThat(TopKSelector.smallest(List.<Item>of(), Item::key, 3)).isEmpty();
+    }
+
+    @Test
+    void returnsAllItemsInSortedOrderWhenKExceedsSize() {
+        List<Item> items = randomItems(new Random(SEED), 15, 4);
+
+        assertThat(TopKSelector.smallest(items, Item::key, 100))
+                .containsExactlyElementsOf(sortedLimit(items, 100));
+    }
+
+    @Test
+    void keepsInputOrderForEqualKeysAndSortsInfinityLast() {
+        List<Item> items = List.of(
+                new Item(0, Double.POSITIVE_INFINITY),
+                new Item(1, 2.0),
+                new Item(2, 1.0),
+                new Item(3, 2.0),
+                new Item(4, Double.POSITIVE_INFINITY),
+                new Item(5, 1.0));
+
+        assertThat(TopKSelector.smallest(items, Item::key, 5))
+                .extracting(Item::id)
+                .containsExactly(2, 5, 1, 3, 0);
+    }
+
+    private static List<Item> randomItems(Random random, int size, int keyRange) {
+        List<Item> items = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            double key = random.nextInt(20) == 0 ? Double.POSITIVE_INFINITY : random.nextInt(keyRange) - keyRange / 2.0;
+            items.add(new Item(i, key));
+        }
+        return items;
+    }
+
+    private static List<Item> sortedLimit(List<Item> items, int k) {
+        return items.stream()
+                .sorted(Comparator.comparingDouble(Item::key))
+                .limit(k)
+                .collect(Collectors.toList());
+    }
+
+    private record Item(int id, double key) {
+    }
+}